@@ -0,0 +1,74 @@
+package scrabble;
+
+/**
+ * Dumb AI that picks the highest-scoring one-tile move. Plays a two-tile move on the first turn. Exchanges all of its
+ * letters if it can't find any other move.
+ *
+ * Technically it only makes two-letter words: on the first turn a word starting at the center and going across, and
+ * afterwards a tile played next to a single tile on the board. It won't find words that simply add a tile to the end of
+ * an existing word, and it only ever plays a blank as an E. MoveGenerator just saves it from trying every square; the
+ * moves it picks from are the same.
+ */
+public class Incrementalist implements ScrabbleAI {
+
+    /** When exchanging, always exchange everything. */
+    private static final boolean[] ALL_TILES = {true, true, true, true, true, true, true};
+
+    /** Finds the legal moves from which this Incrementalist picks. */
+    private final MoveGenerator generator = new MoveGenerator(Lexicon.getDefault());
+
+    /** The GateKeeper through which this Incrementalist accesses the Board. */
+    private GateKeeper gateKeeper;
+
+    /** True if this is the first turn, which must play two tiles, as one-letter words are not allowed. */
+    private boolean firstTurn;
+
+    /** Best move found so far this turn, or null. */
+    private PlayWord bestMove;
+
+    /** Score of bestMove, or -1 if there is none. */
+    private int bestScore;
+
+    @Override
+    public void setGateKeeper(GateKeeper gateKeeper) {
+        this.gateKeeper = gateKeeper;
+    }
+
+    @Override
+    public ScrabbleMove chooseMove() {
+        firstTurn = gateKeeper.getSquare(Location.CENTER) == Board.DOUBLE_WORD_SCORE;
+        bestMove = null;
+        bestScore = -1;
+        generator.generate(gateKeeper, this::consider);
+        if (bestMove != null) {
+            return bestMove;
+        }
+        return new ExchangeTiles(ALL_TILES);
+    }
+
+    /** Keeps word if it is one of the two-letter words described above and beats the best move so far. */
+    private void consider(String word, Location location, Location direction) {
+        if (word.length() != 2) {
+            return;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (Character.isUpperCase(c) && c != 'E') {
+                return; // This could be improved slightly by trying all possibilities for the blank
+            }
+        }
+        if (firstTurn) {
+            if (!location.equals(Location.CENTER) || !direction.equals(Location.HORIZONTAL)) {
+                return;
+            }
+        } else if (word.indexOf(' ') < 0) {
+            return;
+        }
+        int score = gateKeeper.score(word, location, direction);
+        if (score > bestScore) {
+            bestScore = score;
+            bestMove = new PlayWord(word, location, direction);
+        }
+    }
+
+}
@@ -0,0 +1,210 @@
+package scrabble;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * AI that chooses among the highest-scoring moves by simulation. The top few candidates (by immediate score) are each
+ * played out on many sampled Boards, on which the tiles this player cannot see (the opponent's hand and the bag) are
+ * dealt at random. After the candidate, both sides play greedily (highest-scoring move) for a few more turns; the
+ * candidate's equity in a rollout is the change in the score spread. The candidate with the highest mean equity is
+ * played.
+ *
+ * Rollouts run in parallel on a ForkJoinPool until a per-move time budget (or the GateKeeper's deadline, if sooner)
+ * runs out. Each worker samples a Board and then rolls out every candidate on it, taking each back with
+ * Board.unmakeMove, so the candidates are compared on the same tiles.
+ */
+public class MonteCarloPlayer implements ScrabbleAI {
+
+    /** When exchanging, always exchange everything. */
+    private static final boolean[] ALL_TILES = {true, true, true, true, true, true, true};
+
+    /** A candidate move and its immediate score. */
+    private static class Candidate {
+
+        final String word;
+
+        final Location location;
+
+        final Location direction;
+
+        final int score;
+
+        Candidate(String word, Location location, Location direction, int score) {
+            this.word = word;
+            this.location = location;
+            this.direction = direction;
+            this.score = score;
+        }
+
+    }
+
+    /** Time reserved for returning the move when a tournament deadline is shorter than the budget, in nanoseconds. */
+    private static final long MARGIN_NANOS = 50_000_000;
+
+    /** Number of candidate moves simulated. */
+    private final int candidateCount;
+
+    /** Time allowed for each move, in nanoseconds. */
+    private final long budgetNanos;
+
+    /** Number of greedy turns played after each candidate in a rollout. */
+    private final int plies;
+
+    /** Where rollouts run. */
+    private final ForkJoinPool pool;
+
+    /** Finds the candidate moves; used only by the thread calling chooseMove. */
+    private final MoveGenerator generator = new MoveGenerator(Lexicon.getDefault());
+
+    /** Source of the seeds for each worker's sampling. */
+    private final SplittableRandom random = new SplittableRandom();
+
+    /** The GateKeeper through which this MonteCarloPlayer accesses the Board. */
+    private GateKeeper gateKeeper;
+
+    /** Simulates the top 10 moves for up to 1 second per move, on the common pool, with two-turn rollouts. */
+    public MonteCarloPlayer() {
+        this(10, 1000, 2, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param candidateCount Number of candidate moves simulated.
+     * @param budgetMillis Time allowed for each move, in milliseconds.
+     * @param plies Number of greedy turns played after each candidate in a rollout.
+     * @param pool Where rollouts run.
+     */
+    public MonteCarloPlayer(int candidateCount, long budgetMillis, int plies, ForkJoinPool pool) {
+        this.candidateCount = candidateCount;
+        this.budgetNanos = budgetMillis * 1_000_000;
+        this.plies = plies;
+        this.pool = pool;
+    }
+
+    @Override
+    public void setGateKeeper(GateKeeper gateKeeper) {
+        this.gateKeeper = gateKeeper;
+    }
+
+    @Override
+    public ScrabbleMove chooseMove() {
+        // Leave a margin for returning the move before any deadline set by the tournament
+        long deadline = System.nanoTime() + Math.min(budgetNanos, gateKeeper.getRemainingNanos() - MARGIN_NANOS);
+        TopK<Candidate> top = new TopK<>(candidateCount);
+        generator.generate(gateKeeper, (word, location, direction) -> {
+            int score = gateKeeper.score(word, location, direction);
+            if (top.wouldAccept(score)) {
+                top.offer(new Candidate(word, location, direction, score), score);
+            }
+        });
+        if (top.size() == 0) {
+            return new ExchangeTiles(ALL_TILES);
+        }
+        List<Candidate> candidates = top.toSortedList();
+        int best = 0;
+        if (candidates.size() > 1) {
+            double[] equity = simulate(candidates, deadline);
+            for (int i = 1; i < equity.length; i++) {
+                if (equity[i] > equity[best]) {
+                    best = i;
+                }
+            }
+        }
+        Candidate move = candidates.get(best);
+        return new PlayWord(move.word, move.location, move.direction);
+    }
+
+    /**
+     * Rolls out candidates on the pool until deadline and returns the mean equity of each. A candidate that was never
+     * rolled out is given its immediate score.
+     */
+    private double[] simulate(List<Candidate> candidates, long deadline) {
+        int workers = pool.getParallelism();
+        List<Future<double[]>> results = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            SplittableRandom workerRandom = random.split();
+            results.add(pool.submit(() -> rollOut(candidates, deadline, workerRandom)));
+        }
+        double[] total = new double[candidates.size()];
+        int[] counts = new int[candidates.size()];
+        for (Future<double[]> result : results) {
+            double[] sums;
+            try {
+                sums = result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+            // sums holds each candidate's total equity, followed by its number of rollouts
+            for (int i = 0; i < total.length; i++) {
+                total[i] += sums[i];
+                counts[i] += (int) sums[total.length + i];
+            }
+        }
+        double[] result = new double[total.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = counts[i] == 0 ? candidates.get(i).score : total[i] / counts[i];
+        }
+        return result;
+    }
+
+    /**
+     * One worker's share of the simulation: repeatedly samples a Board and rolls out each candidate on it, until
+     * deadline. Returns the total equity of each candidate, followed by the number of
+     * times each was rolled out.
+     *
+     * The deadline is only checked between samples, so every candidate is rolled out on every sample and the counts
+     * stay equal. A sample is not started unless there is time for one as long as the longest so far.
+     */
+    private double[] rollOut(List<Candidate> candidates, long deadline, SplittableRandom random) {
+        MoveGenerator workerGenerator = new MoveGenerator(Lexicon.getDefault());
+        double[] result = new double[2 * candidates.size()];
+        long longest = 0; // Duration of the longest sample so far
+        long start = System.nanoTime();
+        while (start + longest < deadline) {
+            Board board = gateKeeper.sample(random);
+            int player = board.getCurrentPlayer();
+            int spread = board.getScore(player) - board.getScore(1 - player);
+            for (int i = 0; i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                List<Board.Undo> undos = new ArrayList<>();
+                undos.add(board.makeMove(candidate.word, candidate.location, candidate.direction));
+                for (int ply = 0; ply < plies && !board.gameIsOver(); ply++) {
+                    undos.add(playGreedily(board, workerGenerator));
+                }
+                result[i] += board.getScore(player) - board.getScore(1 - player) - spread;
+                result[candidates.size() + i]++;
+                for (int u = undos.size() - 1; u >= 0; u--) {
+                    board.unmakeMove(undos.get(u));
+                }
+            }
+            long end = System.nanoTime();
+            longest = Math.max(longest, end - start);
+            start = end;
+        }
+        return result;
+    }
+
+    /** Plays the highest-scoring move for the player to move on board, or passes if there is none. */
+    private static Board.Undo playGreedily(Board board, MoveGenerator generator) {
+        GateKeeper view = new GateKeeper(board, board.getCurrentPlayer());
+        Candidate[] best = new Candidate[1];
+        generator.generate(view, (word, location, direction) -> {
+            int score = view.score(word, location, direction);
+            if (best[0] == null || score > best[0].score) {
+                best[0] = new Candidate(word, location, direction, score);
+            }
+        });
+        if (best[0] == null) {
+            return board.makePass();
+        }
+        return board.makeMove(best[0].word, best[0].location, best[0].direction);
+    }
+
+}
@@ -0,0 +1,95 @@
+package scrabble;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Improvement over 'dumb' implementation
+ * Run via "ScrabbleTournament.java"
+ *
+ * Moves are found by a ParallelMoveGenerator over the shared Lexicon and rated by equity with the default LeaveTable
+ *
+ * @author Maxwell S. Freudenburg
+ * add your names here
+ */
+public class ScrabbleWinner implements ScrabbleAI {
+
+    /**
+     * Searches rows and columns in parallel, on the common pool, for the move with the best equity: score plus the
+     * value of the leave, from the default LeaveTable (all zeros unless a trained table has been written).
+     */
+    private final ParallelMoveGenerator generator =
+            new ParallelMoveGenerator(Lexicon.getDefault(), ForkJoinPool.commonPool(), LeaveTable.getDefault());
+    Rack hand;
+
+    /**
+     * When exchanging, always exchange everything.
+     */
+    private static final boolean[] ALL_TILES = {true, true, true, true, true, true, true};
+
+    /**
+     * The GateKeeper through which this Incrementalist-Beating Algo accesses the Board.
+     */
+    private GateKeeper gateKeeper;
+
+    @Override
+    public void setGateKeeper(GateKeeper gateKeeper) {
+        this.gateKeeper = gateKeeper;
+    }
+
+    /**
+     * ScrabbleTournament calls THIS function to start each move
+     * @return
+     */
+    @Override
+    public ScrabbleMove chooseMove() {
+        // Update everything
+        hand = gateKeeper.getHand();
+
+        // log hand (getHand returns a new Rack each move, so the logger may format it later)
+        Log.debug("Hand: %s", hand);
+
+        return betterMove();
+    }
+
+    /**
+     * NEW "move" function
+     * The ParallelMoveGenerator searches the anchors' rows and columns on several threads and only considers legal
+     * moves, so there is nothing left to filter.
+     */
+    private ScrabbleMove betterMove() {
+        Log.debug("New Move...");
+
+        // LOG BOARD //
+        if (Log.isEnabled(Log.Level.TRACE)) {
+            StringBuilder board = new StringBuilder("\t0 1 2 3 4 5 6 7 8 9 0 1 2 3 4");
+            for (int row = 0; row < Board.WIDTH; row++) {
+                board.append('\n').append(row).append('\t');
+                for (int col = 0; col < Board.WIDTH; col++) {
+                    board.append(gateKeeper.getSquare(Location.at(row, col))).append(' ');
+                }
+            }
+            Log.trace("%s", board);
+        }
+
+        return send(generator.best(gateKeeper));
+    }
+
+    /**
+     * Plays the move with the best equity, the first found among equals. Every move is already legal.
+     * @return
+     */
+    private ScrabbleMove send(PlayWord move) {
+        Log.debug("Starting send()...");
+
+        if (move != null) {
+            Log.debug("I CAN PLAY \"%s\"!", move.getWord());
+            Log.debug("Placing %s at (%d, %d)", move.getWord(), move.getLocation().getRow(),
+                    move.getLocation().getColumn());
+            return move;
+        }
+
+        Log.debug("No legal move. Exchanging.");
+        return new ExchangeTiles(ALL_TILES);
+    }
+
+}
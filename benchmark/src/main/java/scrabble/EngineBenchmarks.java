@@ -0,0 +1,104 @@
+package scrabble;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks of the engine's hot paths and of the AIs' chooseMove, over the seeded corpus of mid-game positions
+ * recorded by ScrabbleBenchmark. Each invocation handles one position (or one move), round robin through the corpus.
+ * Run from the directory holding words.txt, e.g., java -jar benchmark/target/benchmarks.jar -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineBenchmarks {
+
+    /** Number of positions in the corpus. */
+    @Param("20")
+    public int positions;
+
+    private List<ScrabbleBenchmark.Position> corpus;
+
+    /** Every legal move in the corpus, and the position each belongs to. */
+    private final List<PlayWord> moves = new ArrayList<>();
+
+    private final List<ScrabbleBenchmark.Position> owners = new ArrayList<>();
+
+    private MoveGenerator generator;
+
+    private GateKeeper[] gateKeepers;
+
+    private ScrabbleWinner[] winners;
+
+    private int nextPosition;
+
+    private int nextMove;
+
+    @Setup
+    public void setUp() throws IllegalMoveException {
+        corpus = ScrabbleBenchmark.recordPositions(positions, 0);
+        generator = new MoveGenerator(Lexicon.getDefault());
+        gateKeepers = new GateKeeper[corpus.size()];
+        winners = new ScrabbleWinner[corpus.size()];
+        for (int i = 0; i < corpus.size(); i++) {
+            ScrabbleBenchmark.Position position = corpus.get(i);
+            gateKeepers[i] = new GateKeeper(position.board, position.player);
+            winners[i] = new ScrabbleWinner();
+            winners[i].setGateKeeper(new GateKeeper(position.board, position.player));
+            for (PlayWord move : position.moves) {
+                moves.add(move);
+                owners.add(position);
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateMoves(Blackhole blackhole) {
+        int i = nextPosition;
+        nextPosition = (i + 1) % corpus.size();
+        generator.generate(gateKeepers[i], (word, location, direction) -> blackhole.consume(word));
+    }
+
+    @Benchmark
+    public int score() {
+        int i = nextMove;
+        nextMove = (i + 1) % moves.size();
+        PlayWord move = moves.get(i);
+        return owners.get(i).board.score(move.getWord(), move.getLocation(), move.getDirection());
+    }
+
+    @Benchmark
+    public Legality checkLegality() {
+        int i = nextMove;
+        nextMove = (i + 1) % moves.size();
+        PlayWord move = moves.get(i);
+        ScrabbleBenchmark.Position position = owners.get(i);
+        return position.board.checkLegality(move.getWord(), move.getLocation(), move.getDirection(),
+                position.board.getHand(position.player));
+    }
+
+    @Benchmark
+    public ScrabbleMove scrabbleWinnerChooseMove() {
+        int i = nextPosition;
+        nextPosition = (i + 1) % corpus.size();
+        return winners[i].chooseMove();
+    }
+
+}
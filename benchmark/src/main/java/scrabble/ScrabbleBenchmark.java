@@ -0,0 +1,182 @@
+package scrabble;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Microbenchmarks for the hot paths of move validation and generation: Board.verifyLegality, Board.score,
+ * Board.isValidWord, ScrabbleWinner.chooseMove and Incrementalist.chooseMove.
+ *
+ * Each benchmark runs over a corpus of mid-game positions, recorded by playing seeded games between two
+ * ScrabbleWinners, so every run (and every JVM) sees the same positions. Like JMH, each benchmark is warmed up and then
+ * measured over several timed iterations. Throughput is reported in operations per second, and allocation in bytes per
+ * operation (JMH's gc.alloc.rate.norm), read from the per-thread allocation counter of the JVM's ThreadMXBean.
+ *
+ * Usage: ScrabbleBenchmark [positions [seed]], defaulting to 20 positions and seed 0. The same corpus is used by the
+ * JMH benchmarks in EngineBenchmarks.
+ */
+public class ScrabbleBenchmark {
+
+    /** Number of untimed iterations before measuring. */
+    private static final int WARMUP_ITERATIONS = 3;
+
+    /** Number of timed iterations. */
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    /** Length of each iteration, in nanoseconds. */
+    private static final long ITERATION_NANOS = 1_000_000_000L;
+
+    /** One benchmarked operation, applied to the i-th element of some corpus. */
+    private interface Operation {
+
+        /** Performs the operation; the result is consumed so the JIT cannot discard the work. */
+        int run(int i);
+
+    }
+
+    /** A recorded position: a Board in mid-game, with every legal move for the player to move. */
+    static class Position {
+
+        final Board board;
+
+        final int player;
+
+        final List<PlayWord> moves = new ArrayList<>();
+
+        Position(Board board) {
+            this.board = board;
+            this.player = board.getCurrentPlayer();
+        }
+
+    }
+
+    /** Accumulates benchmark results, so the JIT cannot treat the benchmarked work as dead code. */
+    private static int sink;
+
+    public static void main(String[] args) throws IllegalMoveException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        List<Position> positions = recordPositions(count, seed);
+        // Candidates for the Board benchmarks: every legal move, plus the same words shifted one square, which are
+        // almost always illegal (as most candidates are during a search)
+        List<Position> owners = new ArrayList<>();
+        List<PlayWord> candidates = new ArrayList<>();
+        List<PlayWord> legal = new ArrayList<>();
+        List<Position> legalOwners = new ArrayList<>();
+        for (Position position : positions) {
+            for (PlayWord move : position.moves) {
+                legal.add(move);
+                legalOwners.add(position);
+                candidates.add(move);
+                owners.add(position);
+                Location shifted = move.getLocation().neighbor(move.getDirection().opposite());
+                if (shifted.isOnBoard()) {
+                    candidates.add(new PlayWord(move.getWord(), shifted, move.getDirection()));
+                    owners.add(position);
+                }
+            }
+        }
+        System.out.printf("%d positions, %d legal moves, %d candidates%n", positions.size(), legal.size(),
+                candidates.size());
+        System.out.printf("%-32s %14s %14s%n", "Benchmark", "ops/s", "B/op");
+        run("Board.verifyLegality", candidates.size(), i -> {
+            PlayWord move = candidates.get(i);
+            Position position = owners.get(i);
+            try {
+                position.board.verifyLegality(move.getWord(), move.getLocation(), move.getDirection(),
+                        position.board.getHand(position.player));
+                return 1;
+            } catch (IllegalMoveException e) {
+                return 0;
+            }
+        });
+        run("Board.score", legal.size(), i -> {
+            PlayWord move = legal.get(i);
+            return legalOwners.get(i).board.score(move.getWord(), move.getLocation(), move.getDirection());
+        });
+        run("Board.isValidWord", candidates.size(), i -> {
+            PlayWord move = candidates.get(i);
+            return owners.get(i).board.isValidWord(move.getWord(), move.getLocation(), move.getDirection()) ? 1 : 0;
+        });
+        run("ScrabbleWinner.chooseMove", positions.size(), players(positions, new ScrabbleWinner[positions.size()],
+                ScrabbleWinner::new));
+        run("Incrementalist.chooseMove", positions.size(), players(positions, new Incrementalist[positions.size()],
+                Incrementalist::new));
+    }
+
+    /**
+     * Records count positions. Position i comes from a game on a Board seeded with seed + i, stopped after 6 to 15
+     * moves; games that end sooner are skipped.
+     */
+    static List<Position> recordPositions(int count, long seed) throws IllegalMoveException {
+        List<Position> result = new ArrayList<>();
+        for (int i = 0; result.size() < count; i++) {
+            Board board = new Board(seed + i);
+            ScrabbleAI[] players = {new ScrabbleWinner(), new ScrabbleWinner()};
+            players[0].setGateKeeper(new GateKeeper(board, 0));
+            players[1].setGateKeeper(new GateKeeper(board, 1));
+            int turns = 6 + i % 10;
+            for (int turn = 0; turn < turns && !board.gameIsOver(); turn++) {
+                int player = board.getCurrentPlayer();
+                players[player].chooseMove().play(board, player);
+            }
+            if (!board.gameIsOver()) {
+                Position position = new Position(board);
+                new MoveGenerator(Lexicon.getDefault()).generate(new GateKeeper(board, position.player),
+                        (word, location, direction) -> position.moves.add(new PlayWord(word, location, direction)));
+                result.add(position);
+            }
+        }
+        return result;
+    }
+
+    /** Returns an Operation that asks a player of the given kind to choose a move in position i. */
+    private static <T extends ScrabbleAI> Operation players(List<Position> positions, T[] players,
+                                                            Supplier<T> factory) {
+        for (int i = 0; i < players.length; i++) {
+            players[i] = factory.get();
+            players[i].setGateKeeper(new GateKeeper(positions.get(i).board, positions.get(i).player));
+        }
+        return i -> players[i].chooseMove().hashCode();
+    }
+
+    /** Warms up and measures operation over a corpus of size elements, then prints the results. */
+    private static void run(String name, int size, Operation operation) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++) {
+            iterate(size, operation);
+        }
+        double totalOpsPerSecond = 0;
+        long totalOps = 0;
+        long totalBytes = 0;
+        for (int iteration = 0; iteration < MEASUREMENT_ITERATIONS; iteration++) {
+            long bytes = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            long ops = iterate(size, operation);
+            long elapsed = System.nanoTime() - start;
+            totalBytes += threads.getThreadAllocatedBytes(thread) - bytes;
+            totalOps += ops;
+            totalOpsPerSecond += ops * 1e9 / elapsed;
+        }
+        System.out.printf("%-32s %14.1f %14.1f%n", name, totalOpsPerSecond / MEASUREMENT_ITERATIONS,
+                (double) totalBytes / totalOps);
+    }
+
+    /** Applies operation to the corpus, round robin, for one iteration. Returns the number of operations. */
+    private static long iterate(int size, Operation operation) {
+        long ops = 0;
+        long deadline = System.nanoTime() + ITERATION_NANOS;
+        int i = 0;
+        do {
+            sink += operation.run(i);
+            ops++;
+            i = (i + 1) % size;
+        } while ((ops & 15) != 0 || System.nanoTime() < deadline);
+        return ops;
+    }
+
+}
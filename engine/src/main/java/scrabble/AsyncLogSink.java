@@ -0,0 +1,115 @@
+package scrabble;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Log.Sink that hands messages to a background thread through a bounded ring buffer, so logging never blocks and
+ * never formats or does I/O on the caller's thread. The writer thread formats each message and writes it to a file,
+ * flushing whenever the buffer runs empty. If the buffer is full, messages are dropped (and counted) rather than
+ * slowing the game down. Close the sink to write any remaining messages.
+ */
+public class AsyncLogSink implements Log.Sink, AutoCloseable {
+
+    /** Default number of messages the buffer holds. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** A message waiting to be formatted. */
+    private static class Message {
+
+        final Log.Level level;
+
+        final String format;
+
+        final Object[] args;
+
+        Message(Log.Level level, String format, Object[] args) {
+            this.level = level;
+            this.format = format;
+            this.args = args;
+        }
+
+    }
+
+    private final ArrayBlockingQueue<Message> buffer;
+
+    private final BufferedWriter out;
+
+    private final Thread writer;
+
+    /** Messages dropped because the buffer was full. */
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /** Creates a sink writing to file (replacing any existing contents), with the default capacity. */
+    public AsyncLogSink(Path file) throws IOException {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    /** Creates a sink writing to file (replacing any existing contents) through a buffer of capacity messages. */
+    public AsyncLogSink(Path file, int capacity) throws IOException {
+        buffer = new ArrayBlockingQueue<>(capacity);
+        out = Files.newBufferedWriter(file);
+        writer = new Thread(this::drain, "AsyncLogSink");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void write(Log.Level level, String format, Object... args) {
+        if (closed || !buffer.offer(new Message(level, format, args))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /** Returns the number of messages dropped because the buffer was full (or the sink closed). */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /** Body of the writer thread: formats and writes messages until closed and empty. */
+    private void drain() {
+        try {
+            while (!closed || !buffer.isEmpty()) {
+                Message message = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (message == null) {
+                    out.flush();
+                    continue;
+                }
+                out.write(String.format("%-5s ", message.level));
+                out.write(message.args.length == 0 ? message.format : String.format(message.format, message.args));
+                out.newLine();
+                if (buffer.isEmpty()) {
+                    out.flush();
+                }
+            }
+            if (dropped.get() > 0) {
+                out.write(String.format("%-5s %d messages dropped%n", Log.Level.WARN, dropped.get()));
+            }
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Stops accepting messages, waits for the remaining ones to be written, and closes the file. */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package scrabble;
+
+import java.util.BitSet;
+
+/**
+ * A set of squares on the board, one bit per Location.getIndex(), packed into four longs. Used by Board so that
+ * occupancy, adjacency and connectivity tests are a few word-level bit operations instead of a branch per square.
+ */
+final class BitBoard {
+
+    /** Number of squares on the board. */
+    private static final int SQUARES = Board.WIDTH * Board.WIDTH;
+
+    /** Number of longs needed to hold one bit per square. */
+    private static final int LENGTH = (SQUARES + 63) / 64;
+
+    /** Squares not in the first column. */
+    private static final BitBoard NOT_FIRST_COLUMN = new BitBoard();
+
+    /** Squares not in the last column. */
+    private static final BitBoard NOT_LAST_COLUMN = new BitBoard();
+
+    static {
+        for (int i = 0; i < SQUARES; i++) {
+            if (i % Board.WIDTH != 0) {
+                NOT_FIRST_COLUMN.set(i);
+            }
+            if (i % Board.WIDTH != Board.WIDTH - 1) {
+                NOT_LAST_COLUMN.set(i);
+            }
+        }
+    }
+
+    private final long[] bits = new long[LENGTH];
+
+    /** Adds square i. */
+    void set(int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    /** Removes square i. */
+    void clear(int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    /** Returns true if square i is in this set. */
+    boolean get(int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /** Makes this set the same as other. */
+    void copyFrom(BitBoard other) {
+        System.arraycopy(other.bits, 0, bits, 0, LENGTH);
+    }
+
+    /** Removes all squares. */
+    void clear() {
+        for (int k = 0; k < LENGTH; k++) {
+            bits[k] = 0;
+        }
+    }
+
+    /** Returns true if this set contains no squares. */
+    boolean isEmpty() {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns true if this set shares a square with other. */
+    boolean intersects(BitBoard other) {
+        for (int k = 0; k < LENGTH; k++) {
+            if ((bits[k] & other.bits[k]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns true if every square in this set is also in other. */
+    boolean isSubsetOf(BitBoard other) {
+        for (int k = 0; k < LENGTH; k++) {
+            if ((bits[k] & ~other.bits[k]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets this to the empty squares orthogonally adjacent to the squares in occupied. Must not be occupied itself.
+     */
+    void setToNeighbors(BitBoard occupied) {
+        long[] in = occupied.bits;
+        for (int k = 0; k < LENGTH; k++) {
+            long right = (in[k] << 1) | (k > 0 ? in[k - 1] >>> 63 : 0);
+            long left = (in[k] >>> 1) | (k < LENGTH - 1 ? in[k + 1] << 63 : 0);
+            long down = (in[k] << Board.WIDTH) | (k > 0 ? in[k - 1] >>> (64 - Board.WIDTH) : 0);
+            long up = (in[k] >>> Board.WIDTH) | (k < LENGTH - 1 ? in[k + 1] << (64 - Board.WIDTH) : 0);
+            bits[k] = ((right & NOT_FIRST_COLUMN.bits[k]) | (left & NOT_LAST_COLUMN.bits[k]) | down | up) & ~in[k];
+        }
+        bits[LENGTH - 1] &= (1L << (SQUARES % 64)) - 1; // Nothing beyond the last square
+    }
+
+    /**
+     * Returns squares n * WIDTH through n * WIDTH + WIDTH - 1 as a WIDTH-bit mask: row n of the board, or column n if
+     * this set is indexed by column * WIDTH + row.
+     */
+    int line(int n) {
+        int i = n * Board.WIDTH;
+        int k = i >>> 6;
+        int offset = i & 63;
+        long result = bits[k] >>> offset;
+        if (offset > 64 - Board.WIDTH && k < LENGTH - 1) {
+            result |= bits[k + 1] << (64 - offset);
+        }
+        return (int) result & ((1 << Board.WIDTH) - 1);
+    }
+
+    /** Returns a copy of this set as a BitSet. */
+    BitSet toBitSet() {
+        return BitSet.valueOf(bits);
+    }
+
+}
@@ -0,0 +1,1068 @@
+package scrabble;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * Scrabble board, maintaining bag, players' hands, and other game logic.
+ *
+ * General conventions:
+ *
+ * Each square is either a lower-case letter (a regular tile), an upper-case letter (a played blank), or a symbol.
+ *
+ * Each bag/hand tile is either a lower-case letter (a regular tile) or _ (an unplayed blank).
+ *
+ * Words submitted consist of letters (upper-case for played blanks) and spaces (existing tiles on the board).
+ */
+public class Board {
+
+    /** Width of this Board, in squares. */
+    public static final int WIDTH = 15;
+
+    /** Symbol for a double letter score square. */
+    public static final char DOUBLE_LETTER_SCORE = '-';
+
+    /** Symbol for a triple letter score square. */
+    public static final char TRIPLE_LETTER_SCORE = '=';
+
+    /** Symbol for a double word score square. */
+    public static final char DOUBLE_WORD_SCORE = '+';
+
+    /** Symbol for a triple word score square. */
+    public static final char TRIPLE_WORD_SCORE = '#';
+
+    /** Symbol for a regular square. */
+    public static final char NO_PREMIUM = ' ';
+
+    /** Set of legal words, shared with any other users of the default Lexicon. */
+    private static final Lexicon DICTIONARY = Lexicon.getDefault();
+
+    /**
+     * Associates tiles with their values. Kept for display; scoring uses the equivalent table behind tileValue, which
+     * needs no boxing.
+     */
+    public static final Map<Character, Integer> TILE_VALUES = new HashMap<>();
+
+    /** Value of each tile, indexed by the tile itself. Played blanks, unplayed blanks and symbols are worth 0. */
+    private static final int[] VALUES = new int[128];
+
+    /**
+     * Initial layout of bonus squares.
+     */
+    public static String[] LAYOUT = {
+            "#  -   #   -  #",
+            " +   =   =   + ",
+            "  +   - -   +  ",
+            "-  +   -   +  -",
+            "    +     +    ",
+            " =   =   =   = ",
+            "  -   - -   -  ",
+            "#  -   +   -  #",
+            "  -   - -   -  ",
+            " =   =   =   = ",
+            "    +     +    ",
+            "-  +   -   +  -",
+            "  +   - -   +  ",
+            " +   =   =   + ",
+            "#  -   #   -  #"};
+
+    /** Premium symbol of each square, indexed by Location.getIndex(). */
+    private static final char[] PREMIUMS = new char[WIDTH * WIDTH];
+
+    /** Factor by which each square multiplies the value of a tile newly played on it, by Location.getIndex(). */
+    private static final byte[] LETTER_MULTIPLIERS = new byte[WIDTH * WIDTH];
+
+    /** Factor by which each square multiplies the score of a word newly played on it, by Location.getIndex(). */
+    private static final byte[] WORD_MULTIPLIERS = new byte[WIDTH * WIDTH];
+
+    // A static block like this is called once when the class is loaded. It is useful for initializing complex
+    // static fields.
+    static {
+        // Initialize tile values
+        for (char c : "eaionrtlsu".toCharArray()) {
+            VALUES[c] = 1;
+        }
+        for (char c : "dg".toCharArray()) {
+            VALUES[c] = 2;
+        }
+        for (char c : "bcmp".toCharArray()) {
+            VALUES[c] = 3;
+        }
+        for (char c : "fhvwy".toCharArray()) {
+            VALUES[c] = 4;
+        }
+        VALUES['k'] = 5;
+        for (char c : "jx".toCharArray()) {
+            VALUES[c] = 8;
+        }
+        for (char c : "qz".toCharArray()) {
+            VALUES[c] = 10;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            TILE_VALUES.put(c, VALUES[c]);
+            TILE_VALUES.put(Character.toUpperCase(c), 0);
+        }
+        TILE_VALUES.put('_', 0);
+        // Initialize premium squares
+        for (int r = 0; r < WIDTH; r++) {
+            for (int c = 0; c < WIDTH; c++) {
+                int i = r * WIDTH + c;
+                PREMIUMS[i] = LAYOUT[r].charAt(c);
+                LETTER_MULTIPLIERS[i] = (byte) (PREMIUMS[i] == TRIPLE_LETTER_SCORE ? 3
+                        : PREMIUMS[i] == DOUBLE_LETTER_SCORE ? 2 : 1);
+                WORD_MULTIPLIERS[i] = (byte) (PREMIUMS[i] == TRIPLE_WORD_SCORE ? 3
+                        : PREMIUMS[i] == DOUBLE_WORD_SCORE ? 2 : 1);
+            }
+        }
+    }
+
+    /** Both directions of play. */
+    private static final Location[] DIRECTIONS = {Location.HORIZONTAL, Location.VERTICAL};
+
+    /** Zobrist keys for each tile (a-z, then A-Z for played blanks) on each square. */
+    private static final long[][] SQUARE_KEYS = new long[WIDTH * WIDTH][52];
+
+    /**
+     * Zobrist keys for hands, indexed by player, tile (a-z, then _) and number of copies of that tile minus one. A
+     * hand's key is the exclusive or of the keys of the first through last copy of each tile it holds, so it depends
+     * only on the multiset of tiles, not on their order.
+     */
+    private static final long[][][] HAND_KEYS = new long[2][27][7];
+
+    /** Zobrist key toggled when player 1 is to move. */
+    private static final long PLAYER_1_KEY;
+
+    static {
+        // A fixed seed, so that keys (and hence recorded position hashes) are the same on every run
+        SplittableRandom keys = new SplittableRandom(0x5CAB1EL);
+        for (long[] square : SQUARE_KEYS) {
+            for (int t = 0; t < square.length; t++) {
+                square[t] = keys.nextLong();
+            }
+        }
+        for (long[][] player : HAND_KEYS) {
+            for (long[] tile : player) {
+                for (int n = 0; n < tile.length; n++) {
+                    tile[n] = keys.nextLong();
+                }
+            }
+        }
+        PLAYER_1_KEY = keys.nextLong();
+    }
+
+    /** Squares holding tiles, indexed by Location.getIndex(). */
+    private final BitBoard occupied;
+
+    /** Squares holding tiles, indexed by column * WIDTH + row so that columns can be read as easily as rows. */
+    private final BitBoard occupiedByColumn;
+
+    /** Tile on each occupied square, indexed by Location.getIndex(). Meaningless for unoccupied squares. */
+    private final byte[] tiles;
+
+    /** Hands of the players. */
+    private final Rack[] hands;
+
+    /** The bag of remaining tiles. */
+    private final List<Character> bag;
+
+    /** Scores of the players. */
+    private final int[] scores;
+
+    /** Current player number (0 or 1). */
+    private int currentPlayer;
+
+    /** Number of consecutive tile exchange turns; 2 ends the game. */
+    private int numberOfPasses;
+
+    /** Source of all randomness in this game: the order of the bag, and hence every draw. */
+    private final RandomGenerator random;
+
+    /** Zobrist hash of the squares, the hands (as multisets) and the player to move, maintained incrementally. */
+    private long zobristKey;
+
+    /**
+     * For each square (row * WIDTH + column), the letters that may be played there in a horizontal word without
+     * forming an invalid vertical cross word, as a bit set with bit 0 for 'a'. 0 for occupied squares.
+     */
+    private final int[] horizontalCrossChecks;
+
+    /** As horizontalCrossChecks, for vertical words (and horizontal cross words). */
+    private final int[] verticalCrossChecks;
+
+    /**
+     * For each empty square, the total value of the tiles in the vertical cross word a horizontal word would form
+     * there, or -1 if it would form no cross word.
+     */
+    private final int[] horizontalCrossScores;
+
+    /** As horizontalCrossScores, for vertical words (and horizontal cross words). */
+    private final int[] verticalCrossScores;
+
+    /** Anchors: the empty squares beside a tile, or the center if the board is empty. Every legal word covers one. */
+    private final BitBoard anchors;
+
+    /** The anchors, indexed like occupiedByColumn. */
+    private final BitBoard anchorsByColumn;
+
+    /** Creates a Board whose bag is shuffled unpredictably. */
+    public Board() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a Board whose tiles are drawn in an order determined by seed. Two Boards with the same seed deal the same
+     * tiles, as long as the same moves are played, on any JVM (java.util.Random's algorithm is fixed by its
+     * specification).
+     */
+    public Board(long seed) {
+        this(new Random(seed));
+    }
+
+    /** Creates a Board that uses random to shuffle the bag, at the start of the game and after each exchange. */
+    public Board(RandomGenerator random) {
+        this.random = random;
+        // Create squares on board
+        occupied = new BitBoard();
+        occupiedByColumn = new BitBoard();
+        tiles = new byte[WIDTH * WIDTH];
+        // Create bag
+        bag = new ArrayList<Character>();
+        for (char tile : "aaaaaaaaabbccddddeeeeeeeeeeeeffggghhiiiiiiiiijkllllmmnnnnnnooooooooppqrrrrrrssssttttttuuuuvvwwxyyz__".toCharArray()) {
+            bag.add(tile);
+        }
+        shuffleBag();
+        // Deal initial hands
+        hands = new Rack[] {new Rack(), new Rack()};
+        deal(hands[0], 7);
+        deal(hands[1], 7);
+        // Initialize miscellaneous variables
+        scores = new int[2];
+        // Nothing constrains an empty board except that the first word must cover the center
+        horizontalCrossChecks = new int[WIDTH * WIDTH];
+        verticalCrossChecks = new int[WIDTH * WIDTH];
+        Arrays.fill(horizontalCrossChecks, Lexicon.ALL_LETTERS);
+        Arrays.fill(verticalCrossChecks, Lexicon.ALL_LETTERS);
+        horizontalCrossScores = new int[WIDTH * WIDTH];
+        verticalCrossScores = new int[WIDTH * WIDTH];
+        Arrays.fill(horizontalCrossScores, -1);
+        Arrays.fill(verticalCrossScores, -1);
+        anchors = new BitBoard();
+        anchors.set(Location.CENTER.getIndex());
+        anchorsByColumn = new BitBoard();
+        anchorsByColumn.set(Location.CENTER.getIndex());
+    }
+
+    /**
+     * Creates a copy of original as player sees it: the squares, scores, pass count, player to move and player's hand
+     * are the same, but the tiles player cannot see (the opponent's hand and the bag) are reshuffled using random, and
+     * the opponent is dealt a hand of the same size from them.
+     *
+     * The unseen tiles are gathered by count and laid out in canonical order (a through z, then blanks) before the
+     * shuffle, so the copy carries nothing of the real bag order or the opponent's real hand: whatever random does,
+     * all it can reveal is which tiles are unseen, which player can already work out from the board and its hand.
+     *
+     * @param shuffle If false, the unseen tiles are left in canonical order, and random is only kept for the copy's
+     * own later draws.
+     */
+    private Board(Board original, int player, RandomGenerator random, boolean shuffle) {
+        this.random = random;
+        occupied = new BitBoard();
+        occupied.copyFrom(original.occupied);
+        occupiedByColumn = new BitBoard();
+        occupiedByColumn.copyFrom(original.occupiedByColumn);
+        tiles = original.tiles.clone();
+        horizontalCrossChecks = original.horizontalCrossChecks.clone();
+        verticalCrossChecks = original.verticalCrossChecks.clone();
+        horizontalCrossScores = original.horizontalCrossScores.clone();
+        verticalCrossScores = original.verticalCrossScores.clone();
+        anchors = new BitBoard();
+        anchors.copyFrom(original.anchors);
+        anchorsByColumn = new BitBoard();
+        anchorsByColumn.copyFrom(original.anchorsByColumn);
+        scores = original.scores.clone();
+        currentPlayer = original.currentPlayer;
+        numberOfPasses = original.numberOfPasses;
+        zobristKey = original.zobristKey;
+        hands = new Rack[] {new Rack(original.hands[0]), new Rack(original.hands[1])};
+        Rack hidden = hands[1 - player];
+        int size = hidden.size();
+        Rack unseen = new Rack(hidden);
+        for (char tile : original.bag) {
+            unseen.add(tile);
+        }
+        while (!hidden.isEmpty()) {
+            removeTile(hidden, hidden.get(0));
+        }
+        bag = new ArrayList<Character>(unseen.size());
+        for (int t = 0; t <= Rack.BLANK; t++) {
+            for (int n = 0; n < unseen.countAt(t); n++) {
+                bag.add(Rack.tileAt(t));
+            }
+        }
+        if (shuffle) {
+            shuffleBag();
+        }
+        deal(hidden, size);
+    }
+
+    /**
+     * Returns a copy of this Board as player sees it, with the tiles player cannot see (the opponent's hand and the
+     * bag) dealt at random using random. Simulations can then play out moves on the copy without affecting this Board.
+     *
+     * @param player Player number (0 or 1).
+     */
+    public Board sample(int player, RandomGenerator random) {
+        return new Board(this, player, random, true);
+    }
+
+    /**
+     * Returns a copy of this Board as player sees it now, with nothing left to chance: everything player can see is
+     * the same, and the tiles it cannot see are laid out in canonical order, the opponent holding the last of them.
+     * The copy therefore depends only on what player can see, so it reveals nothing of the opponent's hand or the bag.
+     *
+     * @param player Player number (0 or 1).
+     */
+    Board snapshot(int player) {
+        return new Board(this, player, new SplittableRandom(zobristKey), false);
+    }
+
+    /** Shuffles the bag using random (Fisher-Yates, so the result depends only on random's sequence). */
+    private void shuffleBag() {
+        for (int i = bag.size() - 1; i > 0; i--) {
+            Collections.swap(bag, i, random.nextInt(i + 1));
+        }
+    }
+
+    /** Deals n tiles from the bag into hand. */
+    private void deal(Rack hand, int n) {
+        for (int i = 0; i < n; i++) {
+            if (bag.isEmpty()) {
+                return; // No tile left to draw!
+            }
+            addTile(hand, bag.remove(bag.size() - 1));
+        }
+    }
+
+    /** Adds tile to hand, updating the Zobrist key. */
+    private void addTile(Rack hand, char tile) {
+        hand.add(tile);
+        toggleHandKey(hand, tile);
+    }
+
+    /** Removes one copy of tile from hand, if it has one, updating the Zobrist key. */
+    private void removeTile(Rack hand, char tile) {
+        toggleHandKey(hand, tile);
+        hand.remove(tile);
+    }
+
+    /**
+     * Toggles the Zobrist key of the last copy of tile in hand, if hand belongs to a player of this Board and holds
+     * tile.
+     */
+    private void toggleHandKey(Rack hand, char tile) {
+        int player = hand == hands[0] ? 0 : hand == hands[1] ? 1 : -1;
+        if (player < 0) {
+            return;
+        }
+        int copies = hand.count(tile);
+        if (copies > 0) {
+            zobristKey ^= HAND_KEYS[player][Rack.indexOf(tile)][copies - 1];
+        }
+    }
+
+    /**
+     * Returns a 64-bit Zobrist hash of this position: the tiles on the board, the tiles in each hand (in any order)
+     * and the player to move. Equal positions have equal keys; different positions almost certainly do not. The key is
+     * maintained incrementally, so this is O(1), and is the same on every JVM. Hands must only be changed through this
+     * Board.
+     */
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    /**
+     * Returns player's hand.
+     *
+     * @param player Player number (0 or 1).
+     */
+    public Rack getHand(int player) {
+        return hands[player];
+    }
+
+    /**
+     * Returns player's score.
+     *
+     * @param player Player number (0 or 1).
+     */
+    public int getScore(int player) {
+        return scores[player];
+    }
+
+    /** Returns the number of tiles left in the bag. */
+    public int getBagSize() {
+        return bag.size();
+    }
+
+    @Override
+    public String toString() {
+        String result = "";
+        for (int r = 0; r < WIDTH; r++) {
+            for (int c = 0; c < WIDTH; c++) {
+                result += getSquare(Location.at(r, c));
+            }
+            result += "\n";
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if word can be played from the tiles available in hand.
+     */
+    public boolean canBeDrawnFromHand(String word, Rack hand) {
+        return hand.canPlay(word);
+    }
+
+    /**
+     * Returns true if word can be placed on board, in the sense of not overlapping existing tiles,
+     * leaving no gaps, having no tiles right before or after it, and not extending beyond the edge of the board.
+     */
+    public boolean canBePlacedOnBoard(String word, Location location, Location direction) {
+        if (!location.isOnBoard()) {
+            return false;
+        }
+        int position = positionInLine(location, direction);
+        if (position + word.length() > WIDTH) { // Off edge of board
+            return false;
+        }
+        int line = line(occupied, occupiedByColumn, location, direction);
+        int newTiles = 0;
+        int existingTiles = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) == ' ') {
+                existingTiles |= 1 << (position + i);
+            } else {
+                newTiles |= 1 << (position + i);
+            }
+        }
+        // Squares right before and after word (the latter may be just off the board, which is harmless)
+        int ends = (1 << (position + word.length())) | (position > 0 ? 1 << (position - 1) : 0);
+        // Tile played on top of existing tile, gap in word where there is no tile, or tile right before or after word
+        return (newTiles & line) == 0 && (existingTiles & ~line) == 0 && (ends & line) == 0;
+    }
+
+    /** Returns the position of location along its row (for direction HORIZONTAL) or column (for VERTICAL). */
+    private static int positionInLine(Location location, Location direction) {
+        return Location.HORIZONTAL.equals(direction) ? location.getColumn() : location.getRow();
+    }
+
+    /**
+     * Returns the row (for direction HORIZONTAL) or column (for VERTICAL) through location of a set of squares, as a
+     * WIDTH-bit mask indexed by position along it.
+     *
+     * @param byRow The set, indexed by Location.getIndex().
+     * @param byColumn The same set, indexed by column * WIDTH + row.
+     */
+    private static int line(BitBoard byRow, BitBoard byColumn, Location location, Location direction) {
+        if (Location.HORIZONTAL.equals(direction)) {
+            return byRow.line(location.getRow());
+        }
+        return byColumn.line(location.getColumn());
+    }
+
+    /** Returns the value of tile (a letter, played blank or _), or 0 for anything else. */
+    public static int tileValue(char tile) {
+        return tile < VALUES.length ? VALUES[tile] : 0;
+    }
+
+    /**
+     * Returns the letter or symbol at location.
+     */
+    public char getSquare(Location location) {
+        int i = location.getIndex();
+        return occupied.get(i) ? (char) tiles[i] : PREMIUMS[i];
+    }
+
+    /**
+     * Sets the letter or symbol at location.
+     */
+    private void setSquare(char tile, Location location) {
+        int i = location.getIndex();
+        tiles[i] = (byte) tile;
+        zobristKey ^= SQUARE_KEYS[i][Character.isUpperCase(tile) ? tile - 'A' + 26 : tile - 'a'];
+        occupied.set(i);
+        occupiedByColumn.set(location.getColumn() * WIDTH + location.getRow());
+    }
+
+    /**
+     * Places word on board at the specified location and direction. Assumes this is legal. Updates the cross-checks,
+     * cross scores and anchors of the squares around the new tiles.
+     */
+    public void placeWord(String word, Location location, Location direction) {
+        Location start = location;
+        for (char c : word.toCharArray()) {
+            if (c != ' ') {
+                setSquare(c, location);
+            }
+            location = location.neighbor(direction);
+        }
+        location = start;
+        for (char c : word.toCharArray()) {
+            if (c != ' ') {
+                int i = location.getIndex();
+                horizontalCrossChecks[i] = 0;
+                verticalCrossChecks[i] = 0;
+                horizontalCrossScores[i] = -1;
+                verticalCrossScores[i] = -1;
+                for (Location d : DIRECTIONS) {
+                    updateCrossChecks(findStartOfWord(location, d).antineighbor(d));
+                    updateCrossChecks(findEndOfWord(location, d).neighbor(d));
+                }
+            }
+            location = location.neighbor(direction);
+        }
+        anchors.setToNeighbors(occupied);
+        anchorsByColumn.setToNeighbors(occupiedByColumn);
+    }
+
+    /** Finds the end of a (cross) word including location and moving in direction. */
+    private Location findEndOfWord(Location location, Location direction) {
+        do { // Advance until we leave the board or find an unoccupied square
+            location = location.neighbor(direction);
+        } while (location.isOnBoard() && isOccupied(location));
+        return location.antineighbor(direction);
+    }
+
+    /** Recomputes the cross-checks and cross scores of location, if it is an empty square. */
+    private void updateCrossChecks(Location location) {
+        if (!location.isOnBoard() || isOccupied(location)) {
+            return;
+        }
+        int i = location.getIndex();
+        horizontalCrossChecks[i] = crossCheck(location, Location.VERTICAL);
+        verticalCrossChecks[i] = crossCheck(location, Location.HORIZONTAL);
+        horizontalCrossScores[i] = crossScore(location, Location.VERTICAL);
+        verticalCrossScores[i] = crossScore(location, Location.HORIZONTAL);
+    }
+
+    /**
+     * Returns the set of letters that could be placed on the empty square at location without forming an invalid
+     * cross word in direction.
+     */
+    private int crossCheck(Location location, Location direction) {
+        Location before = location.antineighbor(direction);
+        Location after = location.neighbor(direction);
+        if (!(before.isOnBoard() && isOccupied(before)) && !(after.isOnBoard() && isOccupied(after))) {
+            return Lexicon.ALL_LETTERS; // No cross word
+        }
+        int node = Lexicon.ROOT;
+        for (Location l = findStartOfWord(location, direction); !l.equals(location); l = l.neighbor(direction)) {
+            node = DICTIONARY.child(node, getSquare(l));
+            if (node == Lexicon.NONE) {
+                return 0;
+            }
+        }
+        int result = 0;
+        for (int letters = DICTIONARY.letters(node); letters != 0; letters &= letters - 1) {
+            int letter = Integer.numberOfTrailingZeros(letters);
+            int next = DICTIONARY.child(node, (char) ('a' + letter));
+            for (Location l = after; next != Lexicon.NONE && l.isOnBoard() && isOccupied(l); l = l.neighbor(direction)) {
+                next = DICTIONARY.child(next, getSquare(l));
+            }
+            if (next != Lexicon.NONE && DICTIONARY.isWord(next)) {
+                result |= 1 << letter;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total value of the tiles in the cross word in direction through the empty square at location
+     * (excluding that square), or -1 if there are no such tiles.
+     */
+    private int crossScore(Location location, Location direction) {
+        int result = -1;
+        for (Location l = location.antineighbor(direction); l.isOnBoard() && isOccupied(l); l = l.antineighbor(direction)) {
+            result = Math.max(result, 0) + VALUES[tiles[l.getIndex()]];
+        }
+        for (Location l = location.neighbor(direction); l.isOnBoard() && isOccupied(l); l = l.neighbor(direction)) {
+            result = Math.max(result, 0) + VALUES[tiles[l.getIndex()]];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the letters that may be played on location in a word in direction without forming an invalid cross
+     * word, as a bit set with bit 0 for 'a'. Returns 0 if location is occupied.
+     */
+    public int getCrossCheck(Location location, Location direction) {
+        int i = location.getIndex();
+        return Location.HORIZONTAL.equals(direction) ? horizontalCrossChecks[i] : verticalCrossChecks[i];
+    }
+
+    /**
+     * Returns the total value of the existing tiles in the cross word formed by playing on location in a word in
+     * direction, or -1 if no cross word would be formed.
+     */
+    public int getCrossScore(Location location, Location direction) {
+        int i = location.getIndex();
+        return Location.HORIZONTAL.equals(direction) ? horizontalCrossScores[i] : verticalCrossScores[i];
+    }
+
+    /** Returns true if location is an anchor: an empty square beside a tile, or the center of an empty board. */
+    public boolean isAnchor(Location location) {
+        return anchors.get(location.getIndex());
+    }
+
+    /** Returns a copy of the set of anchors, indexed by row * WIDTH + column. */
+    public BitSet getAnchors() {
+        return anchors.toBitSet();
+    }
+
+    /**
+     * Returns true if word, placed at location in direction, would be connected. In other words,
+     * word must contain an existing tile, be beside an existing tile, or contain the center. Assumes
+     * canBePlacedOnBoard(word, location, direction).
+     */
+    public boolean wouldBeConnected(String word, Location location, Location direction) {
+        int position = positionInLine(location, direction);
+        int newTiles = 0;
+        for (int i = 0; i < word.length() && position + i < WIDTH; i++) {
+            if (word.charAt(i) == ' ') {
+                return true;
+            }
+            newTiles |= 1 << (position + i);
+        }
+        // The anchors are exactly the empty squares beside existing tiles (or the center, on an empty board)
+        return (newTiles & line(anchors, anchorsByColumn, location, direction)) != 0;
+    }
+
+    /**
+     * Finds the start of a (cross) word including location and moving in direction.
+     */
+    public Location findStartOfWord(Location location, Location direction) {
+        do { // Back up until we leave the board or find an unoccupied square
+            location = location.antineighbor(direction);
+        } while (location.isOnBoard() && isOccupied(location));
+        return location.neighbor(direction);
+    }
+
+    /**
+     * Returns true if the cross word including (but not necessarily starting with) location forms a valid dictionary
+     * word, or no new cross word was formed at this point.
+     *
+     * @param tile The one tile played in this word.
+     */
+    public boolean isValidWord(Location location, Location direction, char tile) {
+        if (tile == ' ') {
+            return true; // Word was already on board
+        }
+        location = findStartOfWord(location, direction);
+        int node = Lexicon.ROOT;
+        int length = 0;
+        boolean tileUsed = false;
+        while (location.isOnBoard()) {
+            char letter;
+            if (isOccupied(location)) {
+                letter = getSquare(location);
+            } else if (tileUsed) {
+                break;
+            } else {
+                letter = tile;
+                tileUsed = true;
+            }
+            if (node != Lexicon.NONE) {
+                node = DICTIONARY.child(node, letter);
+            }
+            length++;
+            location = location.neighbor(direction);
+        }
+        if (length == 1) {
+            return true;
+        }
+        return node != Lexicon.NONE && DICTIONARY.isWord(node);
+    }
+
+    /**
+     * Returns true if word, played at location in direction, forms a valid dictionary word of at least two letters.
+     */
+    public boolean isValidWord(String word, Location location, Location direction) {
+        if (word.length() < 2) {
+            return false;
+        }
+        int node = Lexicon.ROOT;
+        for (int i = 0; i < word.length() && node != Lexicon.NONE; i++) {
+            if (isOccupied(location)) {
+                node = DICTIONARY.child(node, getSquare(location));
+            } else {
+                node = DICTIONARY.child(node, word.charAt(i));
+            }
+            location = location.neighbor(direction);
+        }
+        return node != Lexicon.NONE && DICTIONARY.isWord(node);
+    }
+
+    /** Returns true if the square at location contains a tile. */
+    public boolean isOccupied(Location location) {
+        return occupied.get(location.getIndex());
+    }
+
+    /** Returns true if word, played at location and direction, would create only legal words. */
+    public boolean wouldCreateOnlyLegalWords(String word, Location location, Location direction) {
+        if (!isValidWord(word, location, direction)) {
+            return false;
+        }
+        Location cross = direction.opposite();
+        for (char c : word.toCharArray()) {
+            if (!isValidWord(location, cross, c)) {
+                return false;
+            }
+            location = location.neighbor(direction);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the score for playing word at location in direction, including any cross words. Assumes this is a legal
+     * play. Makes one pass over word: each cross word is scored from the cached total of its existing tiles (see
+     * getCrossScore) rather than by walking it.
+     */
+    public int score(String word, Location location, Location direction) {
+        int[] crossScores = Location.HORIZONTAL.equals(direction) ? horizontalCrossScores : verticalCrossScores;
+        int wordScore = 0;
+        int multiplier = 1;
+        int crossWordScores = 0;
+        int tilesPlayed = 0;
+        int i = location.getIndex();
+        int step = direction.getRow() * WIDTH + direction.getColumn();
+        for (int k = 0; k < word.length(); k++, i += step) {
+            char c = word.charAt(k);
+            if (c == ' ') {
+                wordScore += VALUES[tiles[i]];
+            } else {
+                int letterScore = VALUES[c] * LETTER_MULTIPLIERS[i];
+                wordScore += letterScore;
+                multiplier *= WORD_MULTIPLIERS[i];
+                if (crossScores[i] >= 0) {
+                    crossWordScores += (crossScores[i] + letterScore) * WORD_MULTIPLIERS[i];
+                }
+                tilesPlayed++;
+            }
+        }
+        int result = wordScore * multiplier + crossWordScores;
+        if (tilesPlayed == 7) {
+            result += 50;
+        }
+        return result;
+    }
+
+    /**
+     * Stores in scores[i] the score for playing candidates[i], for each i below count. Assumes these are all legal
+     * plays.
+     */
+    public void scoreAll(PlayWord[] candidates, int count, int[] scores) {
+        for (int i = 0; i < count; i++) {
+            PlayWord candidate = candidates[i];
+            scores[i] = score(candidate.getWord(), candidate.getLocation(), candidate.getDirection());
+        }
+    }
+
+    /** Throws an IllegalMoveException if playing word at location in direction from hand would not be legal. */
+    public void verifyLegality(String word, Location location, Location direction, Rack hand) throws IllegalMoveException {
+        Legality legality = checkLegality(word, location, direction, hand);
+        if (legality != Legality.LEGAL) {
+            throw new IllegalMoveException(legality.getMessage());
+        }
+    }
+
+    /**
+     * Returns Legality.LEGAL if playing word at location in direction from hand would be legal, or else the first
+     * reason it would not be. Unlike verifyLegality, never throws, so it is cheap enough for filtering candidates.
+     */
+    public Legality checkLegality(String word, Location location, Location direction, Rack hand) {
+        if (!Location.HORIZONTAL.equals(direction) && !Location.VERTICAL.equals(direction)) {
+            return Legality.BAD_DIRECTION;
+        }
+        if (word.length() < 2) {
+            return Legality.TOO_SHORT;
+        }
+        if (countSpaces(word) == word.length()) {
+            return Legality.NO_NEW_TILES;
+        }
+        if (!canBeDrawnFromHand(word, hand)) {
+            return Legality.NOT_IN_HAND;
+        }
+        if (!canBePlacedOnBoard(word, location, direction)) {
+            return Legality.BAD_PLACEMENT;
+        }
+        if (!wouldBeConnected(word, location, direction)) {
+            return Legality.NOT_CONNECTED;
+        }
+        if (!wouldCreateOnlyLegalWords(word, location, direction)) {
+            return Legality.INVALID_WORD;
+        }
+        return Legality.LEGAL;
+    }
+
+    /**
+     * Plays word at location in direction from hand. Also refills hand from bag, toggles the current player, and
+     * resolves the end of the game if applicable.
+     *
+     * @throws IllegalMoveException if the move is illegal.
+     */
+    public void play(String word, Location location, Location direction, Rack hand)
+            throws IllegalMoveException {
+        verifyLegality(word, location, direction, hand);
+        makeMove(word, location, direction, hand);
+    }
+
+    /**
+     * Plays word at location in direction for the current player, exactly as play does, but without checking that
+     * the move is legal. Returns an Undo with which unmakeMove can take the move back. Intended for lookahead search:
+     * a make/unmake pair costs time proportional to the number of tiles placed, rather than a new Board.
+     */
+    public Undo makeMove(String word, Location location, Location direction) {
+        return makeMove(word, location, direction, hands[currentPlayer]);
+    }
+
+    /** Plays word at location in direction from hand, assuming this is legal. Returns an Undo for the move. */
+    private Undo makeMove(String word, Location location, Location direction, Rack hand) {
+        int[] squares = new int[word.length() - countSpaces(word)];
+        Location l = location;
+        int n = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) != ' ') {
+                squares[n++] = l.getIndex();
+            }
+            l = l.neighbor(direction);
+        }
+        Undo result = new Undo(this, squares);
+        scores[currentPlayer] += score(word, location, direction);
+        placeWord(word, location, direction);
+        removeTiles(word, hand);
+        // The tiles about to be drawn, in bag order
+        int drawn = Math.min(7 - hand.size(), bag.size());
+        result.drawn = new char[drawn];
+        for (int i = 0; i < drawn; i++) {
+            result.drawn[i] = bag.get(bag.size() - drawn + i);
+        }
+        deal(hand, drawn);
+        currentPlayer = 1 - currentPlayer;
+        zobristKey ^= PLAYER_1_KEY;
+        numberOfPasses = 0;
+        if (gameIsOver()) {
+            scoreUnplayedTiles();
+        }
+        return result;
+    }
+
+    /** Returns the number of spaces in word. */
+    private static int countSpaces(String word) {
+        int result = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) == ' ') {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Passes the turn of the current player, as exchanging no tiles would, except that the bag is not reshuffled.
+     * Returns an Undo with which unmakeMove can take the pass back.
+     */
+    public Undo makePass() {
+        Undo result = new Undo(this, new int[0]);
+        currentPlayer = 1 - currentPlayer;
+        zobristKey ^= PLAYER_1_KEY;
+        numberOfPasses++;
+        if (gameIsOver()) {
+            scoreUnplayedTiles();
+        }
+        return result;
+    }
+
+    /**
+     * Takes back the move recorded in undo, restoring the squares, hands, bag, scores, pass count, current player,
+     * cross-checks, cross scores and anchors. Moves must be taken back in the reverse of the order in which they were
+     * made, and only moves made with makeMove or makePass can be taken back.
+     */
+    public void unmakeMove(Undo undo) {
+        zobristKey = undo.zobristKey;
+        currentPlayer = undo.player;
+        numberOfPasses = undo.numberOfPasses;
+        scores[0] = undo.scores[0];
+        scores[1] = undo.scores[1];
+        // Return the drawn tiles to the bag, so it is back in its original order
+        for (char tile : undo.drawn) {
+            bag.add(tile);
+        }
+        hands[undo.player].copyFrom(undo.hand);
+        if (undo.squares.length == 0) {
+            return;
+        }
+        for (int i : undo.squares) {
+            occupied.clear(i);
+            occupiedByColumn.clear(i % WIDTH * WIDTH + i / WIDTH);
+        }
+        // Each emptied square, and the squares just beyond the (now shorter) words on either side of it
+        for (int i : undo.squares) {
+            Location location = Location.at(i);
+            updateCrossChecks(location);
+            for (Location d : DIRECTIONS) {
+                updateCrossChecks(findStartOfWord(location, d).antineighbor(d));
+                updateCrossChecks(findEndOfWord(location, d).neighbor(d));
+            }
+        }
+        if (occupied.isEmpty()) {
+            anchors.clear();
+            anchors.set(Location.CENTER.getIndex());
+            anchorsByColumn.clear();
+            anchorsByColumn.set(Location.CENTER.getIndex());
+        } else {
+            anchors.setToNeighbors(occupied);
+            anchorsByColumn.setToNeighbors(occupiedByColumn);
+        }
+    }
+
+    /**
+     * Exchanges 0 or more tiles from hand with the bag. Also toggles the current player and resolves the end of the
+     * game if applicable.
+     *
+     * @param tilesToExchange An array of 7 booleans indicating which tiles to exchange, in the canonical order of the
+     *                        hand (see Rack).
+     */
+    public void exchange(Rack hand, boolean[] tilesToExchange) {
+        String removed = "";
+        for (int i = 0; i < hand.size(); i++) {
+            if (tilesToExchange[i]) {
+                removed += hand.get(i);
+            }
+        }
+        String dumped = removeTiles(removed, hand);
+        deal(hand, 7 - hand.size());
+        // Return dumped letters to bag
+        for (char c : dumped.toCharArray()) {
+            bag.add(c);
+        }
+        shuffleBag();
+        // If there weren't enough letters in bag, some dumped letters may return to hand
+        deal(hand, 7 - hand.size());
+        currentPlayer = 1 - currentPlayer;
+        zobristKey ^= PLAYER_1_KEY;
+        numberOfPasses++;
+        if (gameIsOver()) {
+            scoreUnplayedTiles();
+        }
+    }
+
+    /** Removes the tiles used in word (spaces use none) from hand and returns them in a new String. */
+    public String removeTiles(String word, Rack hand) {
+        String result = "";
+        for (char c : word.toCharArray()) {
+            if (c == ' ') {
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                c = '_';
+            }
+            removeTile(hand, c);
+            result += c;
+        }
+        return result;
+    }
+
+    /** Returns the current player number (0 or 1). */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /** Returns true if the game is over. */
+    public boolean gameIsOver() {
+        return numberOfPasses == 2 || hands[0].isEmpty() || hands[1].isEmpty();
+    }
+
+    /** Scores any unplayed tiles at the end of the game. */
+    private void scoreUnplayedTiles() {
+        int[] values = new int[2];
+        for (int i = 0; i < hands.length; i++) {
+            for (int t = 0; t < 27; t++) {
+                values[i] += hands[i].countAt(t) * VALUES[Rack.tileAt(t)];
+            }
+        }
+        for (int i = 0; i < hands.length; i++) {
+            scores[i] -= values[i]; // Lose value of own letters
+            if (hands[i].isEmpty()) {
+                scores[i] += values[1 - i]; // Gain value of opponent's letters
+            }
+        }
+    }
+
+    /** Returns the tiles in the bag, in order (the last is drawn first), for self-checks such as BoardSelfCheck. */
+    List<Character> getBag() {
+        return Collections.unmodifiableList(bag);
+    }
+
+    /** Returns the number of consecutive tile exchange turns, for self-checks such as BoardSelfCheck. */
+    int getNumberOfPasses() {
+        return numberOfPasses;
+    }
+
+    /**
+     * Returns the Zobrist key of this position computed from scratch rather than incrementally, for self-checks such
+     * as BoardSelfCheck to compare with getZobristKey().
+     */
+    long computeZobristKey() {
+        long key = currentPlayer == 1 ? PLAYER_1_KEY : 0;
+        for (int p = 0; p < hands.length; p++) {
+            for (int t = 0; t < 27; t++) {
+                for (int n = 0; n < hands[p].countAt(t); n++) {
+                    key ^= HAND_KEYS[p][t][n];
+                }
+            }
+        }
+        for (int i = 0; i < WIDTH * WIDTH; i++) {
+            if (occupied.get(i)) {
+                char tile = (char) tiles[i];
+                key ^= SQUARE_KEYS[i][Character.isUpperCase(tile) ? tile - 'A' + 26 : tile - 'a'];
+            }
+        }
+        return key;
+    }
+
+    /** What unmakeMove needs to take back a move made with makeMove or makePass. */
+    public static final class Undo {
+
+        /** Squares on which tiles were placed, by Location.getIndex(). Empty for a pass. */
+        private final int[] squares;
+
+        /** Hand of the player who moved, as it was before the move. */
+        private final Rack hand;
+
+        /** Tiles drawn from the bag after the move, in the order they were in the bag. */
+        private char[] drawn = new char[0];
+
+        /** Scores of both players before the move (the end of the game may change both). */
+        private final int[] scores;
+
+        /** Number of consecutive passes before the move. */
+        private final int numberOfPasses;
+
+        /** Player who moved. */
+        private final int player;
+
+        /** Zobrist key before the move. */
+        private final long zobristKey;
+
+        /** Records the state of board before its current player moves, placing tiles on squares. */
+        private Undo(Board board, int[] squares) {
+            this.squares = squares;
+            player = board.currentPlayer;
+            hand = new Rack(board.hands[player]);
+            scores = board.scores.clone();
+            numberOfPasses = board.numberOfPasses;
+            zobristKey = board.zobristKey;
+        }
+
+    }
+
+}
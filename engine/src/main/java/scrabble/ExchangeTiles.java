@@ -4,14 +4,14 @@ package scrabble;
 public final class ExchangeTiles implements ScrabbleMove {
 
     /**
-     * An array of seven booleans, indicating which tiles in the hand to exchange. Any entries beyond the length of
-     * the hand are ignored.
+     * An array of seven booleans, indicating which tiles in the hand (in its canonical order; see Rack) to exchange.
+     * Any entries beyond the length of the hand are ignored.
      */
     private final boolean[] tilesToExchange;
 
     /**
-     * @param tilesToExchange An array of seven booleans, indicating which tiles in the hand to exchange. Any entries
-     *                        beyond the length of the hand are ignored.
+     * @param tilesToExchange An array of seven booleans, indicating which tiles in the hand (in its canonical order;
+     *                        see Rack) to exchange. Any entries beyond the length of the hand are ignored.
      */
     public ExchangeTiles(boolean[] tilesToExchange) {
         this.tilesToExchange = tilesToExchange;
@@ -0,0 +1,202 @@
+package scrabble;
+
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+/**
+ * Intermediary between a ScrabbleAI and a Board, allowing the former to get information it needs without allowing
+ * full access.
+ *
+ * When a MoveClock abandons a player that ran out of time, it detaches the player's GateKeeper, which then answers
+ * from a private snapshot of the position (see Board.snapshot): the squares, scores, bag size and the player's own
+ * hand as they were, with the opponent's hand and the bag hidden. The abandoned thread can keep reading while the game
+ * goes on without seeing the Board change under it (a call already under way when it is detached may still finish on
+ * the live Board). The next move reattaches the GateKeeper to the live Board.
+ */
+public class GateKeeper {
+
+    /** The associated board. */
+    private final Board live;
+
+    /** The Board calls are answered from: live, or a snapshot of it while detached. */
+    private volatile Board board;
+
+    /** The ScrabbleAI's player number (0 or 1). */
+    private final int player;
+
+    /** When the current move is due, as a System.nanoTime() value, or Long.MAX_VALUE if there is no time limit. */
+    private volatile long deadline = Long.MAX_VALUE;
+
+    /** Where calls to verifyLegality, score and scoreAll are recorded, or null if they are not being measured. */
+    private MoveMetrics metrics;
+
+    /**
+     * @param board The associated Board.
+     * @param player The ScrabbleAI's player number (0 or 1).
+     */
+    public GateKeeper(Board board, int player) {
+        this.live = board;
+        this.board = board;
+        this.player = player;
+    }
+
+    /**
+     * Returns the square at location.
+     *
+     * @see Board
+     */
+    public char getSquare(Location location) {
+        return board.getSquare(location);
+    }
+
+    /**
+     * Returns the letters that may be played on location in a word in direction without forming an invalid cross
+     * word, as a bit set with bit 0 for 'a'.
+     *
+     * @see Board
+     */
+    public int getCrossCheck(Location location, Location direction) {
+        return board.getCrossCheck(location, direction);
+    }
+
+    /**
+     * Returns the total value of the existing tiles in the cross word formed by playing on location in a word in
+     * direction, or -1 if no cross word would be formed.
+     */
+    public int getCrossScore(Location location, Location direction) {
+        return board.getCrossScore(location, direction);
+    }
+
+    /** Returns true if location is an anchor: an empty square beside a tile, or the center of an empty board. */
+    public boolean isAnchor(Location location) {
+        return board.isAnchor(location);
+    }
+
+    /** Returns a copy of the set of anchors, indexed by row * Board.WIDTH + column. */
+    public BitSet getAnchors() {
+        return board.getAnchors();
+    }
+
+    /**
+     * Throws an IllegalMoveException if it is not legal to play word at location in direction given the ScrabbleAI's
+     * current hand. Has no effect otherwise. It is the ScrabbleAI's responsibility to call this before calling
+     * score or returning a move.
+     */
+    public void verifyLegality(String word, Location location, Location direction) throws IllegalMoveException {
+        if (metrics == null) {
+            board.verifyLegality(word, location, direction, board.getHand(player));
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            board.verifyLegality(word, location, direction, board.getHand(player));
+        } finally {
+            metrics.recordVerifyLegality(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns Legality.LEGAL if it is legal to play word at location in direction given the ScrabbleAI's current hand,
+     * or else the first reason it is not. Like verifyLegality, but without the cost of an exception, so suitable for
+     * filtering candidate moves.
+     */
+    public Legality checkLegality(String word, Location location, Location direction) {
+        if (metrics == null) {
+            return board.checkLegality(word, location, direction, board.getHand(player));
+        }
+        long start = System.nanoTime();
+        Legality result = board.checkLegality(word, location, direction, board.getHand(player));
+        metrics.recordVerifyLegality(System.nanoTime() - start);
+        return result;
+    }
+
+    /** Returns the score for playing word at location in direction. Assumes this is a legal play. */
+    public int score(String word, Location location, Location direction) {
+        if (metrics == null) {
+            return board.score(word, location, direction);
+        }
+        long start = System.nanoTime();
+        int result = board.score(word, location, direction);
+        metrics.recordScore(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Stores in scores[i] the score for playing candidates[i], for each i below count. Assumes these are all legal
+     * plays. Equivalent to calling score on each candidate, but in one tight loop, so cheaper for many candidates.
+     */
+    public void scoreAll(PlayWord[] candidates, int count, int[] scores) {
+        if (metrics == null) {
+            board.scoreAll(candidates, count, scores);
+            return;
+        }
+        long start = System.nanoTime();
+        board.scoreAll(candidates, count, scores);
+        metrics.recordScoreAll(System.nanoTime() - start, count);
+    }
+
+    /** Returns a copy of the ScrabbleAI's hand. Code called for every line or candidate should use copyHandInto. */
+    public Rack getHand() {
+        return new Rack(board.getHand(player));
+    }
+
+    /** Makes hand hold the same tiles as the ScrabbleAI's hand, without allocating. */
+    public void copyHandInto(Rack hand) {
+        hand.copyFrom(board.getHand(player));
+    }
+
+    /** Returns the number of tiles left in the bag. */
+    public int getBagSize() {
+        return board.getBagSize();
+    }
+
+    /**
+     * Returns a copy of the Board as the ScrabbleAI sees it, with the tiles it cannot see (the opponent's hand and the
+     * bag) dealt at random using random. The copy may be played on freely, e.g., with Board.makeMove and
+     * Board.unmakeMove, to simulate the rest of the game.
+     */
+    public Board sample(RandomGenerator random) {
+        return board.sample(player, random);
+    }
+
+    /**
+     * Makes this GateKeeper answer from a snapshot of the position as it is now (see Board.snapshot), so that a
+     * ScrabbleAI still running after its move was abandoned never reads the Board while the game continues. Everything
+     * the ScrabbleAI could see stays as it was; nothing is re-dealt. Called while the Board is not changing. If already
+     * detached, keeps the snapshot it has, so an AI that overruns several moves sees one unchanging position.
+     */
+    void detach() {
+        if (board == live) {
+            board = live.snapshot(player);
+        }
+    }
+
+    /** Makes this GateKeeper answer from the live Board again, after detach. */
+    void attach() {
+        board = live;
+    }
+
+    /** Sets when the current move is due, as a System.nanoTime() value, or Long.MAX_VALUE for no time limit. */
+    void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /** Makes verifyLegality, score and scoreAll record their calls in metrics, or stop recording if metrics is null. */
+    void setMetrics(MoveMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the time left to choose the current move, in nanoseconds (negative if it has run out), or
+     * Long.MAX_VALUE if there is no time limit. A ScrabbleAI that has not returned a move by then forfeits the turn.
+     */
+    public long getRemainingNanos() {
+        return deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return board.toString();
+    }
+
+}
@@ -0,0 +1,114 @@
+package scrabble;
+
+/**
+ * A histogram of durations, in nanoseconds, with bounded relative error, in the style of HdrHistogram. Values below
+ * 32 are counted exactly; above that, each power-of-two range is split into 16 buckets, so a percentile is reported
+ * to within 1/16 (about 6%) of the true value whatever its magnitude, in a fixed 960-bucket array.
+ *
+ * Not thread-safe; record into one histogram per thread and combine them with add.
+ */
+public class LatencyHistogram {
+
+    /** Values below this are counted exactly. */
+    private static final int EXACT = 32;
+
+    /** Buckets per power of two, above EXACT. */
+    private static final int SUB_BUCKETS = 16;
+
+    /** log2(SUB_BUCKETS). */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Enough buckets for any non-negative long. */
+    private static final int BUCKETS = EXACT + (62 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+
+    private long count;
+
+    private long total;
+
+    private long max;
+
+    /** Records one duration. Negative durations are recorded as 0. */
+    public void record(long nanos) {
+        record(nanos, 1);
+    }
+
+    /** Records times copies of a duration. Negative durations are recorded as 0. */
+    public void record(long nanos, long times) {
+        nanos = Math.max(nanos, 0);
+        counts[bucket(nanos)] += times;
+        count += times;
+        total += nanos * times;
+        max = Math.max(max, nanos);
+    }
+
+    /** Adds every duration recorded in other to this histogram. */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    /** Returns the bucket holding value. */
+    private static int bucket(long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS; // value >>> shift is in [16, 32)
+        return EXACT + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /** Returns the largest value that would be recorded in bucket. */
+    private static long highestValueIn(int bucket) {
+        if (bucket < EXACT) {
+            return bucket;
+        }
+        int shift = (bucket - EXACT) / SUB_BUCKETS + 1;
+        long lowest = (long) (SUB_BUCKETS + (bucket - EXACT) % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /** Returns the number of durations recorded. */
+    public long getCount() {
+        return count;
+    }
+
+    /** Returns the mean duration, in nanoseconds, or 0 if none have been recorded. */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /** Returns the longest duration recorded, in nanoseconds. */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns (to within the histogram's precision) the duration, in nanoseconds, that percentile percent of the
+     * recorded durations do not exceed, or 0 if none have been recorded.
+     */
+    public long getPercentile(double percentile) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max);
+            }
+        }
+        return 0;
+    }
+
+    /** Returns a one-line summary in milliseconds. */
+    @Override
+    public String toString() {
+        return String.format("n %d  mean %.1f ms  p50 %.1f ms  p90 %.1f ms  p99 %.1f ms  max %.1f ms", count,
+                getMean() / 1e6, getPercentile(50) / 1e6, getPercentile(90) / 1e6, getPercentile(99) / 1e6,
+                max / 1e6);
+    }
+
+}
@@ -0,0 +1,68 @@
+package scrabble;
+
+/**
+ * Rates moves by equity: score plus the value (from a LeaveTable) of the tiles the move leaves on the rack. Set the
+ * hand once per turn with setHand; each evaluation then takes time proportional to the word's length, with no
+ * allocation.
+ *
+ * Once the bag is empty the table no longer applies, as nothing will be drawn to go with the leave (and LeaveTrainer
+ * only samples moves made while tiles remain). The leave is then valued as the game's end will score it: minus the
+ * total value of its tiles, as Board does for unplayed tiles.
+ *
+ * Not thread-safe; each thread should have its own LeaveEvaluator (they may share a LeaveTable).
+ */
+public class LeaveEvaluator {
+
+    private final LeaveTable table;
+
+    /** Number of each tile in the hand, indexed as in Rack. */
+    private final int[] hand = new int[27];
+
+    /** Number of each tile left after the move being evaluated. */
+    private final int[] leave = new int[27];
+
+    /** True if the bag is empty, so leaves are valued by the end-game penalty instead of the table. */
+    private boolean bagEmpty;
+
+    public LeaveEvaluator(LeaveTable table) {
+        this.table = table;
+    }
+
+    /** Sets the hand from which the moves to be evaluated are played, and the number of tiles left in the bag. */
+    public void setHand(Rack hand, int bagSize) {
+        for (int t = 0; t < this.hand.length; t++) {
+            this.hand[t] = hand.countAt(t);
+        }
+        bagEmpty = bagSize == 0;
+    }
+
+    /**
+     * Returns the value of the tiles left in the hand after playing word (in the format of Board.play), which must be
+     * playable from the hand and use at least one tile.
+     */
+    public float leaveValue(String word) {
+        System.arraycopy(hand, 0, leave, 0, hand.length);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                leave[c - 'a']--;
+            } else if (c >= 'A' && c <= 'Z') {
+                leave[Rack.BLANK]--;
+            }
+        }
+        if (bagEmpty) {
+            int penalty = 0;
+            for (int t = 0; t < leave.length; t++) {
+                penalty += leave[t] * Board.tileValue(Rack.tileAt(t));
+            }
+            return -penalty;
+        }
+        return table.get(LeaveTable.index(leave));
+    }
+
+    /** Returns the equity of playing word for score: score plus the value of the tiles it leaves. */
+    public float evaluate(String word, int score) {
+        return score + leaveValue(word);
+    }
+
+}
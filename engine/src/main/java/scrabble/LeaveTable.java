@@ -0,0 +1,191 @@
+package scrabble;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Values of rack leaves: for every multiset of up to MAX_TILES tiles (letters and blanks), how many points keeping
+ * those tiles on the rack after a move is worth, relative to an average leave. Adding a move's leave value to its
+ * score (see LeaveEvaluator) favors moves that keep good tiles, the standard improvement over playing for score alone.
+ *
+ * The values are stored in a single float array indexed by a minimal perfect hash of the leave. A leave of k tiles,
+ * padded to MAX_TILES with a 28th "no tile" symbol, is a sorted sequence t_0 <= ... <= t_5 over 28 symbols; the
+ * strictly increasing sequence c_i = t_i + i then has a unique rank sum C(c_i, i + 1) in the combinatorial number
+ * system. Every index below SIZE = C(33, 6) is the rank of exactly one leave, so lookups are a few table additions
+ * with no probing. Multisets that no bag could produce (e.g., five z's) have entries too; they are simply never used.
+ *
+ * A table can be written to and loaded from a binary file (see write and load). Once loaded, a LeaveTable is only
+ * read, so one instance can be shared by every player in the process (see getDefault()).
+ */
+public final class LeaveTable {
+
+    /** Most tiles a leave can hold: a full rack less the one tile a move must play. */
+    public static final int MAX_TILES = 6;
+
+    /** Number of distinct tiles: a through z, then the blank (as in Rack). */
+    private static final int TILES = 27;
+
+    /** C(n, k) for n up to TILES + MAX_TILES - 1 and k up to MAX_TILES. */
+    private static final int[][] BINOMIALS = new int[TILES + MAX_TILES][MAX_TILES + 1];
+
+    static {
+        for (int n = 0; n < BINOMIALS.length; n++) {
+            BINOMIALS[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, MAX_TILES); k++) {
+                BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + (k < n ? BINOMIALS[n - 1][k] : 0);
+            }
+        }
+    }
+
+    /** Number of entries, one per multiset of up to MAX_TILES tiles: C(33, 6) = C(32, 6) + C(32, 5). */
+    public static final int SIZE = BINOMIALS[TILES + MAX_TILES - 1][MAX_TILES]
+            + BINOMIALS[TILES + MAX_TILES - 1][MAX_TILES - 1];
+
+    /** Leave table file read by getDefault(), written by LeaveTrainer. */
+    public static final String LEAVES_FILE = "leaves.bin";
+
+    /** First int of a leave table file ("LEAV"). */
+    private static final int MAGIC = 0x4C454156;
+
+    /** Format version of leave table files. */
+    private static final int VERSION = 1;
+
+    /** Number of ints preceding the values in a file: magic, version, number of values. */
+    private static final int FILE_HEADER_INTS = 3;
+
+    /** Value of each leave, indexed by index(). */
+    private final float[] values;
+
+    /** Creates a table in which every leave is worth 0. */
+    public LeaveTable() {
+        this(new float[SIZE]);
+    }
+
+    private LeaveTable(float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the index of the leave holding counts[t] copies of each tile t (indexed as in Rack), between 0 and
+     * SIZE - 1.
+     *
+     * @throws IllegalArgumentException if the leave holds more than MAX_TILES tiles.
+     */
+    public static int index(int[] counts) {
+        int result = 0;
+        int i = 0;
+        for (int t = 0; t < TILES; t++) {
+            for (int n = counts[t]; n > 0; n--) {
+                if (i == MAX_TILES) {
+                    throw new IllegalArgumentException("A leave holds at most " + MAX_TILES + " tiles");
+                }
+                result += BINOMIALS[t + i][i + 1];
+                i++;
+            }
+        }
+        for (; i < MAX_TILES; i++) {
+            result += BINOMIALS[TILES + i][i + 1]; // "No tile" pads the leave to MAX_TILES
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of leave, between 0 and SIZE - 1.
+     *
+     * @throws IllegalArgumentException if leave holds more than MAX_TILES tiles.
+     */
+    public static int index(Rack leave) {
+        int[] counts = new int[TILES];
+        for (int t = 0; t < TILES; t++) {
+            counts[t] = leave.countAt(t);
+        }
+        return index(counts);
+    }
+
+    /** Returns the value of the leave at index. */
+    public float get(int index) {
+        return values[index];
+    }
+
+    /** Sets the value of the leave at index. Not to be called on a table other threads are reading. */
+    public void set(int index, float value) {
+        values[index] = value;
+    }
+
+    /** Returns the value of leave. */
+    public float value(Rack leave) {
+        return values[index(leave)];
+    }
+
+    /**
+     * Reads a table file written by write().
+     *
+     * @throws IOException if the file cannot be read or is not a leave table.
+     */
+    public static LeaveTable load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (bytes.limit() != 4 * (FILE_HEADER_INTS + SIZE) || bytes.getInt(0) != MAGIC
+                    || bytes.getInt(4) != VERSION || bytes.getInt(8) != SIZE) {
+                throw new IOException(file + " is not a leave table.");
+            }
+            bytes.position(4 * FILE_HEADER_INTS);
+            FloatBuffer floats = bytes.asFloatBuffer();
+            float[] values = new float[SIZE];
+            floats.get(values);
+            return new LeaveTable(values);
+        }
+    }
+
+    /**
+     * Writes this table to file, in the form read by load(). The table is written to a temporary file beside file,
+     * which then replaces it in one step, so a process loading the table never sees a half-written one.
+     */
+    public void write(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(SIZE);
+            for (float value : values) {
+                out.writeFloat(value);
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the LeaveTable shared by the whole process: loaded from LEAVES_FILE if there is one, and otherwise a
+     * table in which every leave is worth 0 (so players using it play for score alone).
+     */
+    public static LeaveTable getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /** Loads the default LeaveTable the first time it is requested. */
+    private static final class DefaultHolder {
+
+        static final LeaveTable INSTANCE = loadDefault();
+
+        private static LeaveTable loadDefault() {
+            Path file = Paths.get(LEAVES_FILE);
+            try {
+                return Files.exists(file) ? load(file) : new LeaveTable();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+}
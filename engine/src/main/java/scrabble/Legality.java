@@ -0,0 +1,27 @@
+package scrabble;
+
+/** Result of checking whether a move is legal: LEGAL, or the first reason it is not. */
+public enum Legality {
+
+    LEGAL("Legal move."),
+    BAD_DIRECTION("Direction must be Location.HORIZONTAL or Location.VERTICAL."),
+    TOO_SHORT("Word must be at least two letters long."),
+    NO_NEW_TILES("Word must contain at least one new tile."),
+    NOT_IN_HAND("Hand does not contain sufficient tiles to play word."),
+    BAD_PLACEMENT("Board placement incorrect (gaps, overlapping tiles, edge of board)."),
+    NOT_CONNECTED("Board placement incorrect (gaps, overlapping tiles, edge of board)."),
+    INVALID_WORD("Invalid word created.");
+
+    /** Explanation, as given in the IllegalMoveException thrown by Board.verifyLegality. */
+    private final String message;
+
+    Legality(String message) {
+        this.message = message;
+    }
+
+    /** Returns an explanation of this result, as given in the IllegalMoveException thrown by Board.verifyLegality. */
+    public String getMessage() {
+        return message;
+    }
+
+}
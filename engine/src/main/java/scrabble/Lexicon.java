@@ -0,0 +1,364 @@
+package scrabble;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set of legal words, stored as a minimized directed acyclic word graph (DAWG) in a single flat int array.
+ *
+ * Each node occupies 1 + k consecutive ints, where k is the number of letters that may follow it. The first int is a
+ * header: its low 26 bits are the set of those letters (bit 0 for 'a') and bit 26 is set if the node ends a word. The
+ * remaining k ints are the indices of the child nodes, in alphabetical order. A node is identified by the index of its
+ * header; the root is at index 0.
+ *
+ * Lookups walk the graph one char at a time and allocate nothing. Letters may be in either case, so played blanks
+ * (upper-case letters) can be looked up directly.
+ *
+ * A Lexicon is read-only, so one instance can be shared by every Board and player in the process (see getDefault()).
+ * The graph can be compiled offline into a binary file (see LexiconCompiler) and memory-mapped by load(), so that
+ * startup does no parsing and concurrent processes share the same page-cache pages. The file is written in the
+ * platform's native byte order, so lookups on the mapped buffer read ints directly instead of byte-swapping each one.
+ */
+public final class Lexicon {
+
+    /** The node for the empty prefix. */
+    public static final int ROOT = 0;
+
+    /** Returned by child() when no word continues with the given letter. */
+    public static final int NONE = -1;
+
+    /** Letter set containing all 26 letters. */
+    public static final int ALL_LETTERS = (1 << 26) - 1;
+
+    /** Plain-text word list, one word per line. */
+    public static final String WORDS_FILE = "words.txt";
+
+    /** Compiled form of WORDS_FILE, written by LexiconCompiler. */
+    public static final String GRAPH_FILE = "words.dawg";
+
+    /** Header bit marking a node that ends a word. */
+    private static final int END_OF_WORD = 1 << 26;
+
+    /**
+     * First int of a compiled graph file ("DAWG"). It is written in the file's byte order, so it also records that
+     * order: a file whose magic reads back reversed was written on a machine of the other endianness.
+     */
+    private static final int MAGIC = 0x44415747;
+
+    /** Format version of compiled graph files. */
+    private static final int VERSION = 1;
+
+    /** Number of ints preceding the graph in a compiled file: magic, version, word count, graph length. */
+    private static final int FILE_HEADER_INTS = 4;
+
+    /** The graph, laid out as described above. Either wraps a heap array or is mapped from a compiled file. */
+    private final IntBuffer graph;
+
+    /** Number of words in this Lexicon. */
+    private final int size;
+
+    /**
+     * Builds a Lexicon containing words. Words need not be sorted; duplicates and words containing anything other than
+     * letters are ignored.
+     */
+    public Lexicon(String[] words) {
+        String[] sorted = new String[words.length];
+        int n = 0;
+        for (String word : words) {
+            word = word.trim().toLowerCase();
+            if (isWord(word)) {
+                sorted[n++] = word;
+            }
+        }
+        Arrays.sort(sorted, 0, n);
+        Builder builder = new Builder();
+        String previous = "";
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (!sorted[i].equals(previous)) {
+                builder.add(previous, sorted[i]);
+                previous = sorted[i];
+                count++;
+            }
+        }
+        graph = IntBuffer.wrap(builder.finish(previous));
+        size = count;
+    }
+
+    private Lexicon(IntBuffer graph, int size) {
+        this.graph = graph;
+        this.size = size;
+    }
+
+    /** Builds a Lexicon from a plain-text word list, one word per line. */
+    public static Lexicon read(Path wordList) throws IOException {
+        return new Lexicon(Files.readAllLines(wordList).toArray(new String[0]));
+    }
+
+    /**
+     * Memory-maps a graph file written by write(). The file must not be modified in place while the Lexicon is in use;
+     * write() replaces it instead, so it is safe to recompile. Files written in the other byte order still load, but
+     * every lookup then pays for a byte swap.
+     *
+     * @throws IOException if the file cannot be read or is not a compiled graph.
+     */
+    public static Lexicon load(Path graphFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(graphFile, StandardOpenOption.READ)) {
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            ByteOrder order = ByteOrder.nativeOrder();
+            if (bytes.limit() >= Integer.BYTES && bytes.order(order).getInt(0) == Integer.reverseBytes(MAGIC)) {
+                order = (order == ByteOrder.BIG_ENDIAN) ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+            }
+            IntBuffer ints = bytes.order(order).asIntBuffer();
+            if (ints.limit() < FILE_HEADER_INTS || ints.get(0) != MAGIC || ints.get(1) != VERSION
+                    || ints.get(3) != ints.limit() - FILE_HEADER_INTS) {
+                throw new IOException(graphFile + " is not a compiled lexicon.");
+            }
+            int size = ints.get(2);
+            ints.position(FILE_HEADER_INTS);
+            return new Lexicon(ints.slice(), size);
+        }
+    }
+
+    /**
+     * Writes this Lexicon's graph to graphFile, in the form read by load(), in the platform's native byte order. The
+     * graph is written to a temporary file beside graphFile, which then replaces it in one step, so a process that has
+     * the old file mapped keeps its old graph rather than seeing a half-written one.
+     */
+    public void write(Path graphFile) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate((FILE_HEADER_INTS + graph.limit()) * Integer.BYTES)
+                .order(ByteOrder.nativeOrder());
+        bytes.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(graph.limit());
+        for (int i = 0; i < graph.limit(); i++) {
+            bytes.putInt(graph.get(i));
+        }
+        bytes.flip();
+        Path temporary = graphFile.resolveSibling(graphFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+        Files.move(temporary, graphFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the Lexicon shared by the whole process. It is mapped from GRAPH_FILE if that is at least as new as
+     * WORDS_FILE, and otherwise built from WORDS_FILE.
+     */
+    public static Lexicon getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /** Loads the default Lexicon the first time it is requested. */
+    private static final class DefaultHolder {
+
+        static final Lexicon INSTANCE = loadDefault();
+
+        private static Lexicon loadDefault() {
+            Path words = Paths.get(WORDS_FILE);
+            Path compiled = Paths.get(GRAPH_FILE);
+            try {
+                if (Files.exists(compiled) && (!Files.exists(words)
+                        || Files.getLastModifiedTime(compiled).compareTo(Files.getLastModifiedTime(words)) >= 0)) {
+                    return load(compiled);
+                }
+                return read(words);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+    /** Returns true if word is non-empty and consists only of lower-case letters. */
+    private static boolean isWord(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns the index (0-25) of letter, or -1 if it is not a letter. */
+    public static int indexOf(char letter) {
+        int i = (letter | 0x20) - 'a';
+        return (i >= 0 && i < 26) ? i : -1;
+    }
+
+    /**
+     * Returns the node reached from node by letter, or NONE if no word continues that way.
+     *
+     * @param letter A letter in either case.
+     */
+    public int child(int node, char letter) {
+        int i = indexOf(letter);
+        if (i < 0) {
+            return NONE;
+        }
+        int header = graph.get(node);
+        int bit = 1 << i;
+        if ((header & bit) == 0) {
+            return NONE;
+        }
+        return graph.get(node + 1 + Integer.bitCount(header & (bit - 1)));
+    }
+
+    /** Returns the set of letters that may follow node, as a bit set with bit 0 for 'a'. */
+    public int letters(int node) {
+        return graph.get(node) & ALL_LETTERS;
+    }
+
+    /** Returns true if the prefix leading to node is itself a word. */
+    public boolean isWord(int node) {
+        return (graph.get(node) & END_OF_WORD) != 0;
+    }
+
+    /** Returns true if word (in either case) is in this Lexicon. */
+    public boolean contains(CharSequence word) {
+        int node = ROOT;
+        for (int i = 0; i < word.length() && node != NONE; i++) {
+            node = child(node, word.charAt(i));
+        }
+        return node != NONE && word.length() > 0 && isWord(node);
+    }
+
+    /** Returns the number of words in this Lexicon. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Incrementally builds a minimized graph from words added in sorted order (Daciuk et al.). Only used while
+     * constructing a Lexicon.
+     */
+    private static final class Builder {
+
+        /** Nodes along the path of the most recently added word; path.get(i) is reached after i letters. */
+        private final List<Node> path = new ArrayList<>();
+
+        /** Canonical nodes, keyed by their signature. */
+        private final Map<String, Node> register = new HashMap<>();
+
+        Builder() {
+            path.add(new Node());
+        }
+
+        /** Adds word, which must follow previous in sorted order. */
+        void add(String previous, String word) {
+            int common = 0;
+            while (common < previous.length() && common < word.length()
+                    && previous.charAt(common) == word.charAt(common)) {
+                common++;
+            }
+            minimize(previous, common);
+            for (int i = common; i < word.length(); i++) {
+                Node node = new Node();
+                path.get(i).setChild(word.charAt(i) - 'a', node);
+                path.add(node);
+            }
+            path.get(word.length()).endOfWord = true;
+        }
+
+        /** Replaces the nodes of previous beyond depth with their canonical equivalents. */
+        private void minimize(String previous, int depth) {
+            for (int i = previous.length(); i > depth; i--) {
+                Node node = path.remove(i);
+                String signature = node.signature();
+                Node canonical = register.get(signature);
+                if (canonical == null) {
+                    node.id = register.size();
+                    register.put(signature, node);
+                    canonical = node;
+                }
+                path.get(i - 1).setChild(previous.charAt(i - 1) - 'a', canonical);
+            }
+        }
+
+        /** Minimizes what remains of the path and lays the graph out as a flat array. */
+        int[] finish(String last) {
+            minimize(last, 0);
+            Node root = path.get(0);
+            List<Node> order = new ArrayList<>();
+            order.add(root);
+            root.offset = 0;
+            int length = 1 + Integer.bitCount(root.letters);
+            for (int i = 0; i < order.size(); i++) {
+                for (Node child : order.get(i).children) {
+                    if (child != null && child.offset < 0) {
+                        child.offset = length;
+                        length += 1 + Integer.bitCount(child.letters);
+                        order.add(child);
+                    }
+                }
+            }
+            int[] result = new int[length];
+            for (Node node : order) {
+                int j = node.offset;
+                result[j++] = node.letters | (node.endOfWord ? END_OF_WORD : 0);
+                for (Node child : node.children) {
+                    if (child != null) {
+                        result[j++] = child.offset;
+                    }
+                }
+            }
+            return result;
+        }
+
+    }
+
+    /** A node of the graph under construction. */
+    private static final class Node {
+
+        final Node[] children = new Node[26];
+
+        int letters;
+
+        boolean endOfWord;
+
+        /** Unique number of this node once registered as canonical. */
+        int id = -1;
+
+        /** Index of this node in the finished graph. */
+        int offset = -1;
+
+        void setChild(int letter, Node child) {
+            children[letter] = child;
+            letters |= 1 << letter;
+        }
+
+        /** Two nodes with equal signatures accept exactly the same suffixes. Children must already be canonical. */
+        String signature() {
+            StringBuilder result = new StringBuilder();
+            result.append(endOfWord ? '!' : '.');
+            for (int i = 0; i < 26; i++) {
+                if (children[i] != null) {
+                    result.append((char) ('a' + i)).append(children[i].id).append(',');
+                }
+            }
+            return result.toString();
+        }
+
+    }
+
+}
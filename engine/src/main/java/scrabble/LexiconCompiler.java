@@ -0,0 +1,23 @@
+package scrabble;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Compiles a plain-text word list into the binary graph file memory-mapped by Lexicon.load(). Run this once whenever
+ * the word list changes.
+ *
+ * Usage: LexiconCompiler [wordList [graphFile]], defaulting to words.txt and words.dawg.
+ */
+public class LexiconCompiler {
+
+    public static void main(String[] args) throws IOException {
+        Path words = Paths.get(args.length > 0 ? args[0] : Lexicon.WORDS_FILE);
+        Path graph = Paths.get(args.length > 1 ? args[1] : Lexicon.GRAPH_FILE);
+        Lexicon lexicon = Lexicon.read(words);
+        lexicon.write(graph);
+        System.out.println("Wrote " + lexicon.size() + " words to " + graph);
+    }
+
+}
@@ -0,0 +1,143 @@
+package scrabble;
+
+/**
+ * A location on the Scrabble board, with row and column coordinates. Immutable. Row and column are 0-based from top
+ * left.
+ *
+ * Locations are flyweights: every square on the board, and every square in the ring just outside it, has a single
+ * shared instance, obtained from at(). neighbor() and antineighbor() therefore allocate nothing in the loops that walk
+ * along words. Compare Locations with equals(), as locations further off the board are not shared.
+ */
+public class Location {
+
+    /** Width of the board, in squares. */
+    private static final int WIDTH = 15;
+
+    /** Shared instances for rows and columns -1 through WIDTH, indexed by (row + 1) * (WIDTH + 2) + column + 1. */
+    private static final Location[] INTERNED = new Location[(WIDTH + 2) * (WIDTH + 2)];
+
+    static {
+        for (int r = -1; r <= WIDTH; r++) {
+            for (int c = -1; c <= WIDTH; c++) {
+                INTERNED[(r + 1) * (WIDTH + 2) + c + 1] = new Location(r, c);
+            }
+        }
+    }
+
+    /** Direction for horizontal words. The shared Location at(0, 1). */
+    public static final Location HORIZONTAL = at(0, 1);
+
+    /** Direction for vertical words. The shared Location at(1, 0). */
+    public static final Location VERTICAL = at(1, 0);
+
+    /** The center square (which the first move must contain. */
+    public static final Location CENTER = at(7, 7);
+
+    private final int row;
+
+    private final int column;
+
+    /**
+     * Creates a Location with the given row and column. The result is equal to, but not the same instance as, the
+     * shared Location for that square.
+     *
+     * @deprecated Use {@link #at(int, int)}, which returns the shared instance and allocates nothing on the board.
+     */
+    @Deprecated
+    public Location(int row, int column) {
+        this.row = row;
+        this.column = column;
+    }
+
+    /** Returns the Location with the given row and column, shared if it is on or next to the board. */
+    public static Location at(int row, int column) {
+        if (row >= -1 && row <= WIDTH && column >= -1 && column <= WIDTH) {
+            return INTERNED[(row + 1) * (WIDTH + 2) + column + 1];
+        }
+        return new Location(row, column);
+    }
+
+    /**
+     * Returns the on-board Location with the given index.
+     *
+     * @see #getIndex()
+     */
+    public static Location at(int index) {
+        return at(index / WIDTH, index % WIDTH);
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    /** Returns row * 15 + column, a unique index from 0 to 224 for each on-board Location. */
+    public int getIndex() {
+        return row * WIDTH + column;
+    }
+
+    /**
+     * Returns the Location which is offset from this by direction. For example, a.neighbor(HORIZONTAL) is the
+     * location to the right of a.
+     *
+     * @param direction HORIZONTAL or VERTICAL.
+     */
+    public Location neighbor(Location direction) {
+        return at(row + direction.row, column + direction.column);
+    }
+
+    /**
+     * Returns the Location which is offset from this by the opposite of direction. For example,
+     * a.neighbor(HORIZONTAL) is the location to the left of a.
+     *
+     * @param direction HORIZONTAL or VERTICAL.
+     */
+    public Location antineighbor(Location direction) {
+        return at(row - direction.row, column - direction.column);
+    }
+
+    /**
+     * Returns the opposite of this direction. HORIZONTAL and VERTICAL are opposites.
+     */
+    public Location opposite() {
+        if (equals(HORIZONTAL)) {
+            return VERTICAL;
+        }
+        return HORIZONTAL;
+    }
+
+    /** Returns true if this Location is on the board. */
+    public boolean isOnBoard() {
+        return row >= 0 && row < WIDTH && column >= 0 && column < WIDTH;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Location location = (Location) o;
+        return row == location.row &&
+                column == location.column;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * row + column;
+    }
+
+    @Override
+    public String toString() {
+        return "Location{" +
+                "row=" + row +
+                ", column=" + column +
+                '}';
+    }
+
+}
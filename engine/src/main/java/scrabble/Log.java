@@ -0,0 +1,98 @@
+package scrabble;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Leveled logging for AIs and tools, off by default. Messages are given as a format string and arguments (as for
+ * String.format) and are only formatted, by the Sink, if their level is enabled; with logging off, a call costs one
+ * comparison. Callers on hot paths should still test isEnabled first, to avoid even building the argument array.
+ *
+ * Logging can be turned on in code with setSink and setLevel, or for any program with the system properties
+ * scrabble.log.level (e.g., -Dscrabble.log.level=debug) and scrabble.log.file (defaulting to log.txt), which write
+ * through an AsyncLogSink.
+ */
+public final class Log {
+
+    /** Levels, from least to most verbose. */
+    public enum Level { ERROR, WARN, INFO, DEBUG, TRACE }
+
+    /** Destination of log messages. */
+    public interface Sink {
+
+        /**
+         * Writes a message. May format it later, on another thread, so the arguments must not be modified afterwards.
+         */
+        void write(Level level, String format, Object... args);
+
+    }
+
+    /** Where enabled messages go. */
+    private static volatile Sink sink;
+
+    /** Ordinal of the most verbose level enabled, or -1 if logging is off. */
+    private static volatile int threshold = -1;
+
+    static {
+        String level = System.getProperty("scrabble.log.level");
+        if (level != null) {
+            try {
+                AsyncLogSink file = new AsyncLogSink(Path.of(System.getProperty("scrabble.log.file", "log.txt")));
+                Runtime.getRuntime().addShutdownHook(new Thread(file::close));
+                setSink(file);
+                setLevel(Level.valueOf(level.toUpperCase()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Log() {
+        // Not instantiated
+    }
+
+    /** Sets where enabled messages go. Null discards them. */
+    public static void setSink(Sink sink) {
+        Log.sink = sink;
+    }
+
+    /** Enables messages at level and all less verbose levels. Null turns logging off. */
+    public static void setLevel(Level level) {
+        threshold = level == null ? -1 : level.ordinal();
+    }
+
+    /** Returns true if messages at level are written. */
+    public static boolean isEnabled(Level level) {
+        return level.ordinal() <= threshold;
+    }
+
+    /** Writes a message at level, if level is enabled. */
+    public static void log(Level level, String format, Object... args) {
+        Sink s = sink;
+        if (isEnabled(level) && s != null) {
+            s.write(level, format, args);
+        }
+    }
+
+    public static void error(String format, Object... args) {
+        log(Level.ERROR, format, args);
+    }
+
+    public static void warn(String format, Object... args) {
+        log(Level.WARN, format, args);
+    }
+
+    public static void info(String format, Object... args) {
+        log(Level.INFO, format, args);
+    }
+
+    public static void debug(String format, Object... args) {
+        log(Level.DEBUG, format, args);
+    }
+
+    public static void trace(String format, Object... args) {
+        log(Level.TRACE, format, args);
+    }
+
+}
@@ -0,0 +1,108 @@
+package scrabble;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Asks ScrabbleAIs for moves under a per-move time budget. chooseMove runs on a worker thread; if it has not returned
+ * when the budget runs out, the worker is interrupted and the player forfeits the turn (an exchange of no tiles). The
+ * deadline is published through the player's GateKeeper, so engines can plan their search around it. Each move is
+ * recorded in a MoveMetrics, which is attached to the GateKeeper while the move is chosen.
+ *
+ * A MoveClock with no budget calls chooseMove directly on the calling thread, only recording metrics.
+ *
+ * An AI that ignores interruption keeps running after it forfeits. Its GateKeeper is detached (see GateKeeper) so that
+ * it reads a frozen snapshot of the position it was moving in, with the hidden tiles still hidden, rather than the
+ * Board the game goes on with. Since its next move queues behind it on the same worker, it will forfeit that one too
+ * unless it finishes in time. Close a MoveClock when done with it.
+ */
+public class MoveClock implements AutoCloseable {
+
+    /** Time allowed per move, in nanoseconds, or 0 for unlimited. */
+    private final long budgetNanos;
+
+    /** Where chooseMove runs, if there is a budget. */
+    private final ExecutorService worker;
+
+    /**
+     * @param budgetMillis Time allowed per move, in milliseconds, or 0 for unlimited.
+     */
+    public MoveClock(long budgetMillis) {
+        budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(budgetMillis, 0));
+        worker = budgetNanos == 0 ? null : Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "MoveClock");
+            thread.setDaemon(true); // Never keep the JVM alive for a runaway AI
+            return thread;
+        });
+    }
+
+    /**
+     * Asks player, whose GateKeeper is gateKeeper, for a move within the budget, recording it in metrics. Returns the
+     * move, or an exchange of no tiles if the budget ran out. Any exception thrown by chooseMove is rethrown.
+     */
+    public ScrabbleMove chooseMove(ScrabbleAI player, GateKeeper gateKeeper, MoveMetrics metrics) {
+        long start = System.nanoTime();
+        try {
+            if (worker == null) {
+                gateKeeper.setDeadline(Long.MAX_VALUE);
+                return measure(player, gateKeeper, metrics);
+            }
+            gateKeeper.setDeadline(start + budgetNanos);
+            Future<ScrabbleMove> move = worker.submit(() -> measure(player, gateKeeper, metrics));
+            try {
+                return move.get(budgetNanos - (System.nanoTime() - start), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                move.cancel(true);
+                gateKeeper.detach();
+                metrics.recordForfeit();
+                return new ExchangeTiles(new boolean[7]);
+            } catch (InterruptedException e) {
+                move.cancel(true);
+                gateKeeper.detach();
+                Thread.currentThread().interrupt();
+                return new ExchangeTiles(new boolean[7]);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        } finally {
+            metrics.recordChooseMove(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Calls player.chooseMove on the current thread with metrics attached to gateKeeper, recording the candidates
+     * scored and the bytes allocated. gateKeeper is reattached to the live Board here rather than when the move is
+     * requested, so an abandoned move still running ahead of this one on the worker never sees the live Board again.
+     */
+    private static ScrabbleMove measure(ScrabbleAI player, GateKeeper gateKeeper, MoveMetrics metrics) {
+        gateKeeper.attach();
+        long bytes = MoveMetrics.currentThreadAllocatedBytes();
+        metrics.startMove();
+        gateKeeper.setMetrics(metrics);
+        try {
+            return player.chooseMove();
+        } finally {
+            gateKeeper.setMetrics(null);
+            metrics.endMove(MoveMetrics.currentThreadAllocatedBytes() - bytes);
+        }
+    }
+
+    /** Stops the worker, interrupting any AI still running on it. */
+    @Override
+    public void close() {
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,242 @@
+package scrabble;
+
+import java.util.BitSet;
+
+/**
+ * Generates every legal move for the player behind a GateKeeper, using the anchor/cross-check algorithm of Appel and
+ * Jacobson ("The World's Fastest Scrabble Program", 1988).
+ *
+ * The Board maintains, for each empty square and direction of play, a cross-check: the set of letters that would form
+ * a valid word (or no word) across that square. It also maintains the anchors: the empty squares next to a tile (or
+ * the center, on an empty board); every legal move covers at least one. Only rows and columns containing an anchor
+ * are read, through the GateKeeper. For each anchor,
+ * words are built left to right by walking the Lexicon graph, taking tiles from the hand only where the cross-check
+ * allows them. Each move is produced exactly once, for the leftmost anchor it covers, and every move produced would
+ * pass Board.verifyLegality.
+ *
+ * A MoveGenerator is not thread-safe; each player (or thread) should have its own. ParallelMoveGenerator searches
+ * rows and columns on several threads, one MoveGenerator per thread.
+ */
+public class MoveGenerator {
+
+    /** Receives the moves found by a MoveGenerator. */
+    public interface MoveListener {
+
+        /**
+         * Called once for each legal move.
+         *
+         * @param word The word, in the format of Board.play (spaces for tiles already on the board).
+         * @param location The location of the first letter of the word.
+         * @param direction Location.HORIZONTAL or Location.VERTICAL.
+         */
+        void move(String word, Location location, Location direction);
+
+    }
+
+    /** Index of the blank in rack counts. */
+    private static final int BLANK = Rack.BLANK;
+
+    /** Marks an empty square in line. */
+    private static final char EMPTY = 0;
+
+    private final Lexicon lexicon;
+
+    /** Number of each letter (and the blank, at BLANK) in the hand. */
+    private final int[] rack = new int[27];
+
+    /** The hand, copied from the GateKeeper at the start of each generate call. */
+    private final Rack hand = new Rack();
+
+    /** Letters of the row or column currently being searched. */
+    private final char[] line = new char[Board.WIDTH];
+
+    /** Cross-checks of the row or column currently being searched. */
+    private final int[] lineCrossChecks = new int[Board.WIDTH];
+
+    /** Anchors of the row or column currently being searched. */
+    private final boolean[] lineAnchors = new boolean[Board.WIDTH];
+
+    /**
+     * For each anchor in the current line, how many empty squares to its left a word may start on; -1 if the square
+     * to its left holds a tile, so the word must start at the beginning of that tile's word.
+     */
+    private final int[] leftLimits = new int[Board.WIDTH];
+
+    /** The word under construction, indexed by position in the line. */
+    private final char[] word = new char[Board.WIDTH];
+
+    private GateKeeper gateKeeper;
+
+    /** Anchors of the whole board, indexed by row * WIDTH + column. */
+    private BitSet anchors;
+
+    /** The current line: row (for horizontal plays) or column (for vertical plays). */
+    private int lineNumber;
+
+    private Location direction;
+
+    /** Position in the line of the anchor being searched from. */
+    private int anchor;
+
+    /** Position in the line of the first letter of the word under construction. */
+    private int start;
+
+    private MoveListener listener;
+
+    public MoveGenerator(Lexicon lexicon) {
+        this.lexicon = lexicon;
+    }
+
+    /** Reports every legal move for gateKeeper's player to listener. */
+    public void generate(GateKeeper gateKeeper, MoveListener listener) {
+        begin(gateKeeper, gateKeeper.getAnchors(), listener);
+        int rows = 0; // Bit set of rows containing anchors
+        int columns = 0;
+        for (int i = anchors.nextSetBit(0); i >= 0; i = anchors.nextSetBit(i + 1)) {
+            rows |= 1 << (i / Board.WIDTH);
+            columns |= 1 << (i % Board.WIDTH);
+        }
+        for (; rows != 0; rows &= rows - 1) {
+            searchLine(Integer.numberOfTrailingZeros(rows), Location.HORIZONTAL);
+        }
+        for (; columns != 0; columns &= columns - 1) {
+            searchLine(Integer.numberOfTrailingZeros(columns), Location.VERTICAL);
+        }
+        end();
+    }
+
+    /**
+     * Reports to listener every legal move for gateKeeper's player that is played in direction along one line: row
+     * lineNumber (direction HORIZONTAL) or column lineNumber (direction VERTICAL). The rows in order, then the
+     * columns in order, give the same moves as generate, in the same order.
+     *
+     * @param anchors The anchors from gateKeeper.getAnchors(), which copies them, so a caller searching many lines
+     * should take them once per move.
+     */
+    public void generate(GateKeeper gateKeeper, BitSet anchors, Location direction, int lineNumber,
+            MoveListener listener) {
+        begin(gateKeeper, anchors, listener);
+        searchLine(lineNumber, direction);
+        end();
+    }
+
+    /** Prepares to search for moves for gateKeeper's player, whose board has the given anchors. */
+    private void begin(GateKeeper gateKeeper, BitSet anchors, MoveListener listener) {
+        this.gateKeeper = gateKeeper;
+        this.listener = listener;
+        gateKeeper.copyHandInto(hand);
+        readHand(hand);
+        this.anchors = anchors;
+    }
+
+    /** Drops references to the GateKeeper and listener of the finished search. */
+    private void end() {
+        this.gateKeeper = null;
+        this.anchors = null;
+        this.listener = null;
+    }
+
+    /** Counts the tiles in hand. */
+    private void readHand(Rack hand) {
+        for (int t = 0; t < rack.length; t++) {
+            rack[t] = hand.countAt(t);
+        }
+    }
+
+    /** Finds all moves in one row (direction HORIZONTAL) or column (direction VERTICAL). */
+    private void searchLine(int lineNumber, Location direction) {
+        this.lineNumber = lineNumber;
+        this.direction = direction;
+        int limit = 0;
+        for (int position = 0; position < Board.WIDTH; position++) {
+            int i = indexOf(position);
+            Location location = Location.at(i);
+            char square = gateKeeper.getSquare(location);
+            line[position] = Character.isAlphabetic(square) ? square : EMPTY;
+            lineCrossChecks[position] = gateKeeper.getCrossCheck(location, direction);
+            lineAnchors[position] = anchors.get(i);
+            if (line[position] != EMPTY) {
+                limit = -1;
+            } else if (lineAnchors[position]) {
+                leftLimits[position] = limit;
+                limit = 0;
+            } else {
+                limit++; // Never follows a tile, as the square after a tile is an anchor
+            }
+        }
+        for (int position = 0; position < Board.WIDTH; position++) {
+            if (lineAnchors[position]) {
+                anchor = position;
+                if (leftLimits[position] < 0) {
+                    start = position - 1;
+                    while (start > 0 && line[start - 1] != EMPTY) {
+                        start--;
+                    }
+                    extend(start, Lexicon.ROOT, 0);
+                } else {
+                    for (start = position - leftLimits[position]; start <= position; start++) {
+                        extend(start, Lexicon.ROOT, 0);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Returns the square index of position in the current line. */
+    private int indexOf(int position) {
+        if (direction == Location.HORIZONTAL) {
+            return lineNumber * Board.WIDTH + position;
+        }
+        return position * Board.WIDTH + lineNumber;
+    }
+
+    /**
+     * Extends the word under construction, which runs from start up to (but not including) position and reaches node
+     * in the Lexicon.
+     *
+     * @param placed Number of tiles from the hand in the word so far.
+     */
+    private void extend(int position, int node, int placed) {
+        if (position < Board.WIDTH && line[position] != EMPTY) {
+            int next = lexicon.child(node, line[position]);
+            if (next != Lexicon.NONE) {
+                word[position] = ' ';
+                extend(position + 1, next, placed);
+            }
+            return;
+        }
+        if (position > anchor && placed > 0 && position - start >= 2 && lexicon.isWord(node)) {
+            report(position);
+        }
+        if (position == Board.WIDTH) {
+            return;
+        }
+        for (int letters = lexicon.letters(node) & lineCrossChecks[position]; letters != 0; letters &= letters - 1) {
+            int letter = Integer.numberOfTrailingZeros(letters);
+            if (rack[letter] == 0 && rack[BLANK] == 0) {
+                continue;
+            }
+            int next = lexicon.child(node, (char) ('a' + letter));
+            if (rack[letter] > 0) {
+                rack[letter]--;
+                word[position] = (char) ('a' + letter);
+                extend(position + 1, next, placed + 1);
+                rack[letter]++;
+            }
+            if (rack[BLANK] > 0) {
+                rack[BLANK]--;
+                word[position] = (char) ('A' + letter);
+                extend(position + 1, next, placed + 1);
+                rack[BLANK]++;
+            }
+        }
+    }
+
+    /** Reports the word from start up to (but not including) end. */
+    private void report(int end) {
+        Location location = direction == Location.HORIZONTAL
+                ? Location.at(lineNumber, start) : Location.at(start, lineNumber);
+        listener.move(new String(word, start, end - start), location, direction);
+    }
+
+}
@@ -0,0 +1,216 @@
+package scrabble;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Instrumentation of one contestant's moves: how long chooseMove, GateKeeper.verifyLegality (or checkLegality) and
+ * GateKeeper.score take, how many candidate moves are scored per move, how many bytes the thread running chooseMove
+ * allocates per move, and how many moves are forfeited on time. The allocation count covers that thread only: work a
+ * ScrabbleAI hands to other threads (such as ParallelMoveGenerator's pool) is not included, which is why the metric is
+ * named for the chooser thread wherever it is reported. A MoveClock records into a MoveMetrics, attaching it
+ * to the player's GateKeeper for the duration of each move.
+ *
+ * Metrics from several games (or threads) are combined with add, and a run's metrics can be written as CSV or JSON
+ * with write. All durations are in nanoseconds.
+ *
+ * The recorders are synchronized, as a ScrabbleAI may call the GateKeeper from several threads during one move (see
+ * ParallelMoveGenerator). add and write read other instances under those instances' locks.
+ */
+public class MoveMetrics {
+
+    /** Columns written by write, one row per contestant. */
+    private static final String CSV_HEADER = "contestant,moves,forfeits,"
+            + "choose_move_mean_ns,choose_move_p50_ns,choose_move_p90_ns,choose_move_p99_ns,choose_move_max_ns,"
+            + "verify_legality_calls,verify_legality_p50_ns,verify_legality_p99_ns,"
+            + "score_calls,score_p50_ns,score_p99_ns,"
+            + "candidates_mean,candidates_p99,candidates_max,"
+            + "chooser_thread_allocated_bytes_mean,chooser_thread_allocated_bytes_p99,"
+            + "chooser_thread_allocated_bytes_max";
+
+    /** Source of per-thread allocation counts. */
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final LatencyHistogram chooseMove = new LatencyHistogram();
+
+    private final LatencyHistogram verifyLegality = new LatencyHistogram();
+
+    private final LatencyHistogram score = new LatencyHistogram();
+
+    /** Number of moves scored through the GateKeeper, per move. */
+    private final LatencyHistogram candidates = new LatencyHistogram();
+
+    /** Bytes allocated by the thread running chooseMove, per move; other threads' allocations are not counted. */
+    private final LatencyHistogram chooserThreadAllocatedBytes = new LatencyHistogram();
+
+    private int forfeits;
+
+    /** Moves scored so far in the current move. */
+    private long candidatesThisMove;
+
+    /** Returns the number of bytes allocated so far by the current thread. */
+    static long currentThreadAllocatedBytes() {
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /** Records the time taken by one call to chooseMove. */
+    synchronized void recordChooseMove(long nanos) {
+        chooseMove.record(nanos);
+    }
+
+    /** Records the time taken by one call to GateKeeper.verifyLegality or GateKeeper.checkLegality. */
+    synchronized void recordVerifyLegality(long nanos) {
+        verifyLegality.record(nanos);
+    }
+
+    /** Records the time taken by one call to GateKeeper.score, counting it as a candidate for the current move. */
+    synchronized void recordScore(long nanos) {
+        score.record(nanos);
+        candidatesThisMove++;
+    }
+
+    /**
+     * Records one call to GateKeeper.scoreAll, which scored count candidates in nanos, as count calls to score each
+     * taking an equal share of the time.
+     */
+    synchronized void recordScoreAll(long nanos, int count) {
+        if (count > 0) {
+            score.record(nanos / count, count);
+            candidatesThisMove += count;
+        }
+    }
+
+    /** Starts counting candidates for a new move. */
+    synchronized void startMove() {
+        candidatesThisMove = 0;
+    }
+
+    /** Ends the current move, which allocated bytes on the thread that chose it. */
+    synchronized void endMove(long bytes) {
+        candidates.record(candidatesThisMove);
+        chooserThreadAllocatedBytes.record(bytes);
+    }
+
+    /** Records a move forfeited on time. */
+    synchronized void recordForfeit() {
+        forfeits++;
+    }
+
+    /** Adds everything recorded in other to this. other may still be recording; what it holds now is added. */
+    public void add(MoveMetrics other) {
+        MoveMetrics snapshot = other.snapshot();
+        synchronized (this) {
+            addUnlocked(snapshot);
+        }
+    }
+
+    /** Returns a copy of this, taken under this instance's lock. */
+    private synchronized MoveMetrics snapshot() {
+        MoveMetrics copy = new MoveMetrics();
+        copy.addUnlocked(this);
+        return copy;
+    }
+
+    /** Adds everything recorded in other to this. The caller holds this lock, and no thread is recording into other. */
+    private void addUnlocked(MoveMetrics other) {
+        chooseMove.add(other.chooseMove);
+        verifyLegality.add(other.verifyLegality);
+        score.add(other.score);
+        candidates.add(other.candidates);
+        chooserThreadAllocatedBytes.add(other.chooserThreadAllocatedBytes);
+        forfeits += other.forfeits;
+    }
+
+    /** Returns the times taken by chooseMove. */
+    public LatencyHistogram getChooseMove() {
+        return chooseMove;
+    }
+
+    /** Returns the times taken by GateKeeper.verifyLegality and GateKeeper.checkLegality. */
+    public LatencyHistogram getVerifyLegality() {
+        return verifyLegality;
+    }
+
+    /** Returns the times taken by GateKeeper.score (per candidate, for GateKeeper.scoreAll). */
+    public LatencyHistogram getScore() {
+        return score;
+    }
+
+    /** Returns the number of moves scored through the GateKeeper in each move. */
+    public LatencyHistogram getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the thread running chooseMove in each move, not counting allocations by
+     * other threads the move ran on.
+     */
+    public LatencyHistogram getChooserThreadAllocatedBytes() {
+        return chooserThreadAllocatedBytes;
+    }
+
+    /** Returns the number of moves forfeited on time. */
+    public int getForfeits() {
+        return forfeits;
+    }
+
+    /** Returns a one-line summary, with times in milliseconds. */
+    @Override
+    public synchronized String toString() {
+        return String.format("move times: %s  forfeits %d  candidates mean %.1f  chooser thread allocated mean %.1f KB",
+                chooseMove, forfeits, candidates.getMean(), chooserThreadAllocatedBytes.getMean() / 1024);
+    }
+
+    /**
+     * Writes the metrics of each contestant (keyed by name) to prefix.csv, one row per contestant, and to prefix.json,
+     * one object per contestant.
+     */
+    public static void write(String prefix, Map<String, MoveMetrics> metrics) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Path.of(prefix + ".csv")))) {
+            out.println(CSV_HEADER);
+            for (Map.Entry<String, MoveMetrics> entry : metrics.entrySet()) {
+                MoveMetrics m = entry.getValue().snapshot();
+                out.printf("%s,%d,%d,%.0f,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%.2f,%d,%d,%.0f,%d,%d%n",
+                        entry.getKey().replace(",", ";"), m.chooseMove.getCount(), m.forfeits,
+                        m.chooseMove.getMean(), m.chooseMove.getPercentile(50), m.chooseMove.getPercentile(90),
+                        m.chooseMove.getPercentile(99), m.chooseMove.getMax(),
+                        m.verifyLegality.getCount(), m.verifyLegality.getPercentile(50),
+                        m.verifyLegality.getPercentile(99),
+                        m.score.getCount(), m.score.getPercentile(50), m.score.getPercentile(99),
+                        m.candidates.getMean(), m.candidates.getPercentile(99), m.candidates.getMax(),
+                        m.chooserThreadAllocatedBytes.getMean(), m.chooserThreadAllocatedBytes.getPercentile(99),
+                        m.chooserThreadAllocatedBytes.getMax());
+            }
+        }
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Path.of(prefix + ".json")))) {
+            out.println("{");
+            int i = 0;
+            for (Map.Entry<String, MoveMetrics> entry : metrics.entrySet()) {
+                MoveMetrics m = entry.getValue().snapshot();
+                out.printf("  \"%s\": {\"forfeits\": %d,%n", entry.getKey().replace("\\", "\\\\").replace("\"", "\\\""),
+                        m.forfeits);
+                out.printf("    \"chooseMoveNanos\": %s,%n", toJson(m.chooseMove));
+                out.printf("    \"verifyLegalityNanos\": %s,%n", toJson(m.verifyLegality));
+                out.printf("    \"scoreNanos\": %s,%n", toJson(m.score));
+                out.printf("    \"candidatesPerMove\": %s,%n", toJson(m.candidates));
+                out.printf("    \"chooserThreadAllocatedBytesPerMove\": %s}%s%n", toJson(m.chooserThreadAllocatedBytes),
+                        ++i < metrics.size() ? "," : "");
+            }
+            out.println("}");
+        }
+    }
+
+    /** Returns histogram as a JSON object. */
+    private static String toJson(LatencyHistogram histogram) {
+        return String.format("{\"count\": %d, \"mean\": %.1f, \"p50\": %d, \"p90\": %d, \"p99\": %d, \"p999\": %d, "
+                        + "\"max\": %d}", histogram.getCount(), histogram.getMean(), histogram.getPercentile(50),
+                histogram.getPercentile(90), histogram.getPercentile(99), histogram.getPercentile(99.9),
+                histogram.getMax());
+    }
+
+}
@@ -0,0 +1,215 @@
+package scrabble;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds the best legal move by searching rows and columns in parallel on a ForkJoinPool. Moves are rated by score or,
+ * given a LeaveTable, by equity (score plus the value of the tiles left on the rack; see LeaveEvaluator). Each row or
+ * column containing an anchor is an independent task: the thread running it generates that line's moves with its own
+ * MoveGenerator into its own candidate buffer, scores them in one batch with GateKeeper.scoreAll, and keeps the best.
+ * The lines' bests are then reduced to one. Ties go to the move MoveGenerator.generate would report first, so the
+ * result does not depend on the number of threads or the order in which tasks finish.
+ *
+ * The Board must not change during a search, which holds while a ScrabbleAI is choosing its move. One
+ * ParallelMoveGenerator may be shared by any number of threads.
+ *
+ * Workers are cached per thread rather than per ParallelMoveGenerator, so a pool thread holds at most one however many
+ * generators (and players) have run on it. A thread's Worker is replaced only when it searches for a generator with a
+ * different Lexicon or LeaveTable; players sharing the defaults share Workers.
+ */
+public class ParallelMoveGenerator {
+
+    /** A thread's MoveGenerator and candidate buffer, reused for every line it searches. */
+    private static class Worker implements MoveGenerator.MoveListener {
+
+        final Lexicon lexicon;
+
+        /** The table behind evaluator, or null. */
+        final LeaveTable leaves;
+
+        final MoveGenerator generator;
+
+        /** Adds leave values to scores, or null to rate moves by score alone. */
+        final LeaveEvaluator evaluator;
+
+        /** Moves found in the current line; only the first count are in use. */
+        PlayWord[] candidates = new PlayWord[256];
+
+        /** Scores of the candidates, parallel to candidates. */
+        int[] scores = new int[256];
+
+        /** The player's hand, copied in for each line. */
+        final Rack hand = new Rack();
+
+        int count;
+
+        Worker(Lexicon lexicon, LeaveTable leaves) {
+            this.lexicon = lexicon;
+            this.leaves = leaves;
+            generator = new MoveGenerator(lexicon);
+            evaluator = leaves == null ? null : new LeaveEvaluator(leaves);
+        }
+
+        @Override
+        public void move(String word, Location location, Location direction) {
+            if (count == candidates.length) {
+                candidates = Arrays.copyOf(candidates, 2 * count);
+                scores = new int[2 * count];
+            }
+            candidates[count++] = new PlayWord(word, location, direction);
+        }
+
+        /** Returns the best move in one line, the first found among equals, or null if there is none. */
+        Best search(GateKeeper gateKeeper, BitSet anchors, Location direction, int lineNumber) {
+            count = 0;
+            generator.generate(gateKeeper, anchors, direction, lineNumber, this);
+            if (count == 0) {
+                return null;
+            }
+            gateKeeper.scoreAll(candidates, count, scores);
+            if (evaluator != null) {
+                gateKeeper.copyHandInto(hand);
+                evaluator.setHand(hand, gateKeeper.getBagSize());
+            }
+            int best = -1;
+            float bestEquity = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                float equity = evaluator == null ? scores[i] : evaluator.evaluate(candidates[i].getWord(), scores[i]);
+                if (equity > bestEquity) {
+                    best = i;
+                    bestEquity = equity;
+                }
+            }
+            Best result = new Best(candidates[best], bestEquity);
+            Arrays.fill(candidates, 0, count, null);
+            return result;
+        }
+
+    }
+
+    /** A move and its equity (its score, if there is no LeaveTable). */
+    private static class Best {
+
+        final PlayWord move;
+
+        final float equity;
+
+        Best(PlayWord move, float equity) {
+            this.move = move;
+            this.equity = equity;
+        }
+
+    }
+
+    /**
+     * Searches lines from through to - 1 of a ParallelMoveGenerator.best call, splitting the range in half until only
+     * one line is left. Lines are numbered as in MoveGenerator.generate: rows 0-14, then columns as 15-29.
+     */
+    private class Search extends RecursiveTask<Best> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final GateKeeper gateKeeper;
+
+        /** The board's anchors, taken once for the whole search. */
+        private final BitSet anchors;
+
+        private final int[] lines;
+
+        private final int from;
+
+        private final int to;
+
+        Search(GateKeeper gateKeeper, BitSet anchors, int[] lines, int from, int to) {
+            this.gateKeeper = gateKeeper;
+            this.anchors = anchors;
+            this.lines = lines;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Best compute() {
+            if (to - from == 1) {
+                int line = lines[from];
+                return line < Board.WIDTH
+                        ? worker().search(gateKeeper, anchors, Location.HORIZONTAL, line)
+                        : worker().search(gateKeeper, anchors, Location.VERTICAL, line - Board.WIDTH);
+            }
+            int middle = (from + to) >>> 1;
+            Search right = new Search(gateKeeper, anchors, lines, middle, to);
+            right.fork();
+            Best left = new Search(gateKeeper, anchors, lines, from, middle).compute();
+            Best other = right.join();
+            // On a tie, the earlier line wins
+            return left == null || (other != null && other.equity > left.equity) ? other : left;
+        }
+
+    }
+
+    /** Each thread's Worker, for whichever generator last searched on that thread. */
+    private static final ThreadLocal<Worker> WORKERS = new ThreadLocal<>();
+
+    private final Lexicon lexicon;
+
+    /** Table of leave values, or null to rate moves by score alone. */
+    private final LeaveTable leaves;
+
+    private final ForkJoinPool pool;
+
+    /** Creates a ParallelMoveGenerator walking lexicon, running on pool, rating moves by score alone. */
+    public ParallelMoveGenerator(Lexicon lexicon, ForkJoinPool pool) {
+        this(lexicon, pool, null);
+    }
+
+    /**
+     * Creates a ParallelMoveGenerator walking lexicon, running on pool, rating moves by equity with leaves (or by score
+     * alone, if leaves is null).
+     */
+    public ParallelMoveGenerator(Lexicon lexicon, ForkJoinPool pool, LeaveTable leaves) {
+        this.lexicon = lexicon;
+        this.leaves = leaves;
+        this.pool = pool;
+    }
+
+    /** Returns the current thread's Worker, replacing it if it was made for a different Lexicon or LeaveTable. */
+    private Worker worker() {
+        Worker worker = WORKERS.get();
+        if (worker == null || worker.lexicon != lexicon || worker.leaves != leaves) {
+            worker = new Worker(lexicon, leaves);
+            WORKERS.set(worker);
+        }
+        return worker;
+    }
+
+    /**
+     * Returns the legal move for gateKeeper's player with the highest score (or equity), or null if there is none.
+     * Among equals, returns the one MoveGenerator.generate would report first.
+     */
+    public PlayWord best(GateKeeper gateKeeper) {
+        BitSet anchors = gateKeeper.getAnchors();
+        int rows = 0; // Bit set of rows containing anchors
+        int columns = 0;
+        for (int i = anchors.nextSetBit(0); i >= 0; i = anchors.nextSetBit(i + 1)) {
+            rows |= 1 << (i / Board.WIDTH);
+            columns |= 1 << (i % Board.WIDTH);
+        }
+        int[] lines = new int[Integer.bitCount(rows) + Integer.bitCount(columns)];
+        int n = 0;
+        for (; rows != 0; rows &= rows - 1) {
+            lines[n++] = Integer.numberOfTrailingZeros(rows);
+        }
+        for (; columns != 0; columns &= columns - 1) {
+            lines[n++] = Board.WIDTH + Integer.numberOfTrailingZeros(columns);
+        }
+        if (n == 0) {
+            return null;
+        }
+        Best best = pool.invoke(new Search(gateKeeper, anchors, lines, 0, n));
+        return best == null ? null : best.move;
+    }
+
+}
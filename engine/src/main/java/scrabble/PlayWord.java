@@ -22,6 +22,18 @@ public final class PlayWord implements ScrabbleMove {
         this.direction = direction;
     }
 
+    public String getWord() {
+        return word;
+    }
+
+    public Location getLocation() {
+        return location;
+    }
+
+    public Location getDirection() {
+        return direction;
+    }
+
     @Override
     public Location[] play(Board board, int playerNumber) throws IllegalMoveException {
         board.play(word, location, direction, board.getHand(playerNumber));
@@ -0,0 +1,195 @@
+package scrabble;
+
+import java.util.Arrays;
+
+/**
+ * A player's hand: a multiset of tiles, stored as a count for each letter and the blank, so adding, removing and
+ * looking up a tile are O(1) and nothing is boxed.
+ *
+ * Tiles are lower-case letters or _ (an unplayed blank), as in the bag. Where a Rack is indexed (get, and the tiles
+ * chosen by an ExchangeTiles), its tiles are in canonical order: a through z, then blanks.
+ */
+public final class Rack {
+
+    /** Index of the blank among the counts. */
+    public static final int BLANK = 26;
+
+    /** Returned by tileIndex for a space, which needs no tile. */
+    private static final int NO_TILE = -1;
+
+    /** Number of tiles whose uses canPlay counts in its first long; the rest go in the second. */
+    private static final int USED_SPLIT = 16;
+
+    /** Number of each letter (and the blank, at BLANK). */
+    private final byte[] counts = new byte[27];
+
+    /** Total number of tiles. */
+    private int size;
+
+    /** Creates an empty Rack. */
+    public Rack() {
+    }
+
+    /** Creates a copy of other. */
+    public Rack(Rack other) {
+        copyFrom(other);
+    }
+
+    /** Creates a Rack holding tiles, e.g., "aet_". */
+    public Rack(CharSequence tiles) {
+        for (int i = 0; i < tiles.length(); i++) {
+            add(tiles.charAt(i));
+        }
+    }
+
+    /** Returns the index of tile (a lower-case letter or _) among the counts. */
+    public static int indexOf(char tile) {
+        return tile == '_' ? BLANK : tile - 'a';
+    }
+
+    /** Returns the tile at index among the counts. */
+    public static char tileAt(int index) {
+        return index == BLANK ? '_' : (char) ('a' + index);
+    }
+
+    /** Makes this Rack hold the same tiles as other. */
+    public void copyFrom(Rack other) {
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        size = other.size;
+    }
+
+    /** Returns the number of tiles. */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns the number of copies of tile. */
+    public int count(char tile) {
+        return counts[indexOf(tile)];
+    }
+
+    /** Returns the number of copies of the tile at index (a letter's offset from 'a', or BLANK). */
+    public int countAt(int index) {
+        return counts[index];
+    }
+
+    public boolean contains(char tile) {
+        return counts[indexOf(tile)] > 0;
+    }
+
+    /** Adds tile. */
+    public void add(char tile) {
+        counts[indexOf(tile)]++;
+        size++;
+    }
+
+    /** Removes one copy of tile, if there is one. Returns true if there was. */
+    public boolean remove(char tile) {
+        int i = indexOf(tile);
+        if (counts[i] == 0) {
+            return false;
+        }
+        counts[i]--;
+        size--;
+        return true;
+    }
+
+    /** Removes all tiles. */
+    public void clear() {
+        Arrays.fill(counts, (byte) 0);
+        size = 0;
+    }
+
+    /** Returns the tile at position i in canonical order (a through z, then blanks). */
+    public char get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Tile " + i + " of a rack of " + size);
+        }
+        for (int t = 0; ; t++) {
+            if (i < counts[t]) {
+                return tileAt(t);
+            }
+            i -= counts[t];
+        }
+    }
+
+    /**
+     * Returns true if this Rack holds the tiles needed for word, in the format of Board.play: lower-case letters
+     * need that tile, upper-case letters need a blank, and spaces need nothing. Any other character makes word
+     * unplayable.
+     *
+     * Makes one pass over word and allocates nothing: the uses of each tile so far are kept in 4-bit counters packed
+     * into two longs (tiles below USED_SPLIT in the first), which also keeps this safe to call from several threads.
+     * A word needing more than 15 of one tile is reported unplayable, as no Rack holds that many.
+     */
+    public boolean canPlay(CharSequence word) {
+        long usedLow = 0;
+        long usedHigh = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int t = tileIndex(word.charAt(i));
+            if (t == NO_TILE) {
+                continue;
+            }
+            if (t < 0) {
+                return false; // Not a tile
+            }
+            if (t < USED_SPLIT) {
+                int shift = t * 4;
+                long needed = ((usedLow >>> shift) & 15) + 1;
+                if (needed > counts[t] || needed > 15) {
+                    return false;
+                }
+                usedLow += 1L << shift;
+            } else {
+                int shift = (t - USED_SPLIT) * 4;
+                long needed = ((usedHigh >>> shift) & 15) + 1;
+                if (needed > counts[t] || needed > 15) {
+                    return false;
+                }
+                usedHigh += 1L << shift;
+            }
+        }
+        return true;
+    }
+
+    /** Returns the index of the tile c needs (as in canPlay), NO_TILE for a space, or -2 if c is not a tile. */
+    private static int tileIndex(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return BLANK;
+        }
+        return c == ' ' ? NO_TILE : -2;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Rack && Arrays.equals(counts, ((Rack) o).counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    /** Returns the tiles in canonical order, formatted like a List, e.g., "[a, e, t, _]". */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int t = 0; t < counts.length; t++) {
+            for (int n = 0; n < counts[t]; n++) {
+                if (result.length() > 1) {
+                    result.append(", ");
+                }
+                result.append(tileAt(t));
+            }
+        }
+        return result.append(']').toString();
+    }
+
+}
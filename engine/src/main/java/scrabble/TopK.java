@@ -0,0 +1,157 @@
+package scrabble;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The k highest-scoring items offered, kept in a bounded min-heap on their int scores, so choosing among any number of
+ * candidate moves takes O(k) memory and O(log k) time per candidate instead of a full sort. With k = 1 this is
+ * simply the best so far. Among items with equal scores, those offered first are preferred.
+ *
+ * Not thread-safe.
+ */
+public class TopK<T> {
+
+    /** Scores of the items in the heap; the root (index 0) is the lowest. */
+    private final int[] scores;
+
+    /** Items in the heap, parallel to scores. */
+    private final Object[] items;
+
+    /** Order in which the items in the heap were offered, to break ties. */
+    private final long[] arrivals;
+
+    /** Number of items in the heap. */
+    private int size;
+
+    /** Number of items offered since the last clear. */
+    private long offered;
+
+    /** @param k Number of items to keep; at least 1. */
+    public TopK(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be at least 1");
+        }
+        scores = new int[k];
+        items = new Object[k];
+        arrivals = new long[k];
+    }
+
+    /** Removes all items. */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            items[i] = null;
+        }
+        size = 0;
+        offered = 0;
+    }
+
+    /** Returns the number of items kept (at most k). */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if an item with score would be kept by offer. Callers can test this first to avoid building
+     * items that would be discarded.
+     */
+    public boolean wouldAccept(int score) {
+        return size < scores.length || score > scores[0];
+    }
+
+    /** Offers item with score. Returns true if it was kept. */
+    public boolean offer(T item, int score) {
+        if (size < scores.length) {
+            scores[size] = score;
+            items[size] = item;
+            arrivals[size] = offered++;
+            siftUp(size++);
+            return true;
+        }
+        offered++;
+        if (score <= scores[0]) {
+            return false;
+        }
+        scores[0] = score;
+        items[0] = item;
+        arrivals[0] = offered - 1;
+        siftDown(0);
+        return true;
+    }
+
+    /** Returns the highest-scoring item kept, or null if there are none. */
+    @SuppressWarnings("unchecked")
+    public T best() {
+        if (size == 0) {
+            return null;
+        }
+        int best = 0;
+        for (int i = 1; i < size; i++) {
+            if (isLower(best, i)) {
+                best = i;
+            }
+        }
+        return (T) items[best];
+    }
+
+    /** Returns the items kept, highest score first. */
+    @SuppressWarnings("unchecked")
+    public List<T> toSortedList() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> isLower(a, b) ? 1 : isLower(b, a) ? -1 : 0);
+        List<T> result = new ArrayList<>(size);
+        for (int i : order) {
+            result.add((T) items[i]);
+        }
+        return result;
+    }
+
+    /** Returns true if the item at heap index i ranks below the one at j: a lower score, or offered later. */
+    private boolean isLower(int i, int j) {
+        return scores[i] < scores[j] || (scores[i] == scores[j] && arrivals[i] > arrivals[j]);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!isLower(i, parent)) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int lowest = i;
+            for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                if (isLower(child, lowest)) {
+                    lowest = child;
+                }
+            }
+            if (lowest == i) {
+                return;
+            }
+            swap(i, lowest);
+            i = lowest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+        Object item = items[i];
+        items[i] = items[j];
+        items[j] = item;
+        long arrival = arrivals[i];
+        arrivals[i] = arrivals[j];
+        arrivals[j] = arrival;
+    }
+
+}
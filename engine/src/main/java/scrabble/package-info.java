@@ -0,0 +1,26 @@
+/**
+ * Scrabble engine, AIs, and front ends. The classes are split into Maven modules, each depending only on those listed
+ * before it, so the layering is enforced by the compiler:
+ *
+ * engine: Board, BitBoard, Location, Rack, GateKeeper, ScrabbleAI, ScrabbleMove, PlayWord, ExchangeTiles, Legality,
+ * IllegalMoveException, Lexicon, LexiconCompiler, MoveGenerator, ParallelMoveGenerator, LeaveTable, LeaveEvaluator,
+ * TopK, Log, AsyncLogSink, MoveClock, MoveMetrics, LatencyHistogram. The board, the ScrabbleAI API, and the timing and
+ * metrics that GateKeeper and MoveClock record as AIs play.
+ *
+ * ai: Incrementalist, ScrabbleWinner, MonteCarloPlayer.
+ *
+ * tools: ScrabbleBatchRunner, LeaveTrainer, ScoringCheck, BoardSelfCheck. Headless tournaments, training, and
+ * scoring and make/unmake checks.
+ *
+ * These three modules need nothing but the JDK, so they can be run for server-side simulation without
+ * lib/algs4.jar on the classpath, and never load AWT or StdDraw.
+ *
+ * gui: Scrabble, ScrabbleMonitor, ScrabbleAIArena, ScrabbleTournament, ScrabbleTournamentMonitor, ScrabbleWinnerGym,
+ * Permutator. Interactive and console front ends; these use lib/algs4.jar (StdDraw, StdOut, Out).
+ *
+ * benchmark: EngineBenchmarks (JMH) and ScrabbleBenchmark (a standalone harness), over the engine and AIs.
+ *
+ * Everything that reads the word list (words.txt) must be run from the directory holding it, i.e., the top of the
+ * repository.
+ */
+package scrabble;
@@ -1,6 +1,5 @@
 package scrabble;
 
-import edu.princeton.cs.algs4.In;
 import edu.princeton.cs.algs4.Out;
 import edu.princeton.cs.algs4.StdOut;
 
@@ -26,7 +25,6 @@ public class Permutator {
         int length = 8;
         int maxPermutations;
 
-        HashSet<String> dictionary = new HashSet<>();
         HashSet<String> tried = new HashSet<>();
         Stack<String> words = new Stack<>();
 
@@ -72,10 +70,7 @@ public class Permutator {
 
         System.out.printf("\n\n Permutation Process over. Elapsed Time: %d\n", endTime - startTime);
 
-        In in = new In("words.txt");
-        for (String word : in.readAllLines()) {
-            dictionary.add(word);
-        }
+        Lexicon dictionary = Lexicon.getDefault();
 
         Out out = new Out("guesses.txt");
 
@@ -104,6 +104,14 @@ public class ScrabbleAIArena {
 
     private ScrabbleAI ai2;
 
+    /** GateKeepers of ai1 and ai2. */
+    private GateKeeper gateKeeper1;
+
+    private GateKeeper gateKeeper2;
+
+    /** Metrics of each AI's (by name) moves, over all games. */
+    private final Map<String, MoveMetrics> metrics = new HashMap<>();
+
     private ScrabbleAI[] Contestants;
 
     private int numRuns;
@@ -131,8 +139,10 @@ public class ScrabbleAIArena {
         ai1Name = ai1.toString().substring(9).split("@")[0];
         ai2Name = ai2.toString().substring(9).split("@")[0];
         
-        ai1.setGateKeeper(new GateKeeper(board, 0));
-        ai2.setGateKeeper(new GateKeeper(board, 1));
+        gateKeeper1 = new GateKeeper(board, 0);
+        gateKeeper2 = new GateKeeper(board, 1);
+        ai1.setGateKeeper(gateKeeper1);
+        ai2.setGateKeeper(gateKeeper2);
         mode = Mode.AI1_PLAYING;
     }
 
@@ -147,85 +157,94 @@ public class ScrabbleAIArena {
         wins2 = 0;
         score1 = 0;
         score2 = 0;
-        while(true){
-            StdDraw.setCanvasSize(966, 630);
-            StdDraw.setXscale(-1.5, 23.5);
-            StdDraw.setYscale(-1.5, 15.5);
-            StdDraw.enableDoubleBuffering();
-            boardCursor = Location.CENTER;
-            boardCursorDirection = Location.HORIZONTAL;
-            draw();
-            while (mode != Mode.GAME_OVER) {
-                if (mode == Mode.AI1_PLAYING) {
-                    draw();
-                    ScrabbleMove move = ai1.chooseMove();
-                    // This fixes a security hole where the AI player returns an instance of a new class implementing
-                    // ScrabbleMove, which then manipulates the Board.
-                    if (!(move instanceof PlayWord || move instanceof ExchangeTiles)){
-                        throw new IllegalMoveException("Bogus ScrabbleMove implementation detected!");
-                    }
-                    Location[] place = move.play(board, 0);
-                    if (place != null) {
-                        boardCursor = place[0];
-                        boardCursorDirection = place[1];
-                    }
-                    if (board.gameIsOver()) {
-                        mode = Mode.GAME_OVER;
-                    } else {
-                        mode = Mode.AI2_PLAYING;
-                    }
-                    draw();
-                } else {
-                    draw();
-                    ScrabbleMove move = ai2.chooseMove();
-                    // This fixes a security hole where the AI player returns an instance of a new class implementing
-                    // ScrabbleMove, which then manipulates the Board.
-                    if (!(move instanceof PlayWord || move instanceof ExchangeTiles)){
-                        throw new IllegalMoveException("Bogus ScrabbleMove implementation detected!");
-                    }
-                    Location[] place = move.play(board, 1);
-                    if (place != null) {
-                        boardCursor = place[0];
-                        boardCursorDirection = place[1];
-                    }
-                    if (board.gameIsOver()) {
-                        mode = Mode.GAME_OVER;
+        // One clock for each of ai1 and ai2, so a runaway AI cannot make its opponent wait
+        try (MoveClock clock1 = new MoveClock(ScrabbleTournament.MOVE_BUDGET_MILLIS);
+                MoveClock clock2 = new MoveClock(ScrabbleTournament.MOVE_BUDGET_MILLIS)) {
+            while(true){
+                StdDraw.setCanvasSize(966, 630);
+                StdDraw.setXscale(-1.5, 23.5);
+                StdDraw.setYscale(-1.5, 15.5);
+                StdDraw.enableDoubleBuffering();
+                boardCursor = Location.CENTER;
+                boardCursorDirection = Location.HORIZONTAL;
+                draw();
+                while (mode != Mode.GAME_OVER) {
+                    if (mode == Mode.AI1_PLAYING) {
+                        draw();
+                        ScrabbleMove move = clock1.chooseMove(ai1, gateKeeper1,
+                                metrics.computeIfAbsent(ai1Name, name -> new MoveMetrics()));
+                        // This fixes a security hole where the AI player returns an instance of a new class
+                        // implementing ScrabbleMove, which then manipulates the Board.
+                        if (!(move instanceof PlayWord || move instanceof ExchangeTiles)){
+                            throw new IllegalMoveException("Bogus ScrabbleMove implementation detected!");
+                        }
+                        Location[] place = move.play(board, 0);
+                        if (place != null) {
+                            boardCursor = place[0];
+                            boardCursorDirection = place[1];
+                        }
+                        if (board.gameIsOver()) {
+                            mode = Mode.GAME_OVER;
+                        } else {
+                            mode = Mode.AI2_PLAYING;
+                        }
+                        draw();
                     } else {
-                        mode = Mode.AI1_PLAYING;
+                        draw();
+                        ScrabbleMove move = clock2.chooseMove(ai2, gateKeeper2,
+                                metrics.computeIfAbsent(ai2Name, name -> new MoveMetrics()));
+                        // This fixes a security hole where the AI player returns an instance of a new class
+                        // implementing ScrabbleMove, which then manipulates the Board.
+                        if (!(move instanceof PlayWord || move instanceof ExchangeTiles)){
+                            throw new IllegalMoveException("Bogus ScrabbleMove implementation detected!");
+                        }
+                        Location[] place = move.play(board, 1);
+                        if (place != null) {
+                            boardCursor = place[0];
+                            boardCursorDirection = place[1];
+                        }
+                        if (board.gameIsOver()) {
+                            mode = Mode.GAME_OVER;
+                        } else {
+                            mode = Mode.AI1_PLAYING;
+                        }
+                        draw();
                     }
-                    draw();
                 }
-            }
-            numRuns++;
-
-            int c;
-            do{
-                c = getKeyPressed();
-                if(c == 'q')
-                {
-                    StdOut.println("-----FINAL STATS-----");
-                    if(numRuns % 2 == 1){
-                        StdOut.println(ai1Name + ": " + wins1 + " (Total: " + score1 +
-                                ", Average: " + ((float)score1 / numRuns) + ")");
-                        StdOut.println(ai2Name + ": " + wins2 + " (Total: " + score2 +
-                                ", Average: " + ((float)score2 / numRuns) +  ")");
+                numRuns++;
+
+                int c;
+                do{
+                    c = getKeyPressed();
+                    if(c == 'q')
+                    {
+                        StdOut.println("-----FINAL STATS-----");
+                        if(numRuns % 2 == 1){
+                            StdOut.println(ai1Name + ": " + wins1 + " (Total: " + score1 +
+                                    ", Average: " + ((float)score1 / numRuns) + ")");
+                            StdOut.println(ai2Name + ": " + wins2 + " (Total: " + score2 +
+                                    ", Average: " + ((float)score2 / numRuns) +  ")");
+                        }
+                        else{
+                            StdOut.println(ai1Name + ": " + wins2 + " (Total: " + score2 +
+                                    ", Average: " + ((float)score2 / numRuns) + ")");
+                            StdOut.println(ai2Name + ": " + wins1 + " (Total: " + score1 +
+                                    ", Average: " + ((float)score1 / numRuns) +  ")");
+                        }
+                        StdOut.println("Score Differential: " + Math.abs(score1 - score2) + " over " + (numRuns) +
+                                " games (" + (Math.round((Math.abs(score1-score2) * 100.0) / (numRuns)) / 100) + " per game)");
+                        for (Map.Entry<String, MoveMetrics> entry : metrics.entrySet()) {
+                            StdOut.println(entry.getKey() + " " + entry.getValue());
+                        }
+                        System.exit(0);
                     }
-                    else{
-                        StdOut.println(ai1Name + ": " + wins2 + " (Total: " + score2 +
-                                ", Average: " + ((float)score2 / numRuns) + ")");
-                        StdOut.println(ai2Name + ": " + wins1 + " (Total: " + score1 +
-                                ", Average: " + ((float)score1 / numRuns) +  ")");
+                    if(c == VK_ENTER){
+                        c = 'q';
+                        Reset(numRuns);
                     }
-                    StdOut.println("Score Differential: " + Math.abs(score1 - score2) + " over " + (numRuns) +
-                            " games (" + (Math.round((Math.abs(score1-score2) * 100.0) / (numRuns)) / 100) + " per game)");
-                    System.exit(0);
-                }
-                if(c == VK_ENTER){
-                    c = 'q';
-                    Reset(numRuns);
-                }
-            }while(c != 'q');
+                }while(c != 'q');
 
+            }
         }
     }
 
@@ -272,11 +291,11 @@ public class ScrabbleAIArena {
         for (int r = Board.WIDTH - 1; r >= 0; r--) {
             for (int c = Board.WIDTH - 1; c >= 0; c--) {
                 // r and c are converted to x and y in this call
-                drawSquare(c, 14 - r, board.getSquare(new Location(r, c)), false, false, false);
+                drawSquare(c, 14 - r, board.getSquare(Location.at(r, c)), false, false, false);
             }
         }
         // Draw hands
-        List<Character> hand = board.getHand(0);
+        Rack hand = board.getHand(0);
         for (int i = 0; i < hand.size(); i++) {
             drawSquare(16 + i, 14, hand.get(i), false, false, false);
         }
@@ -279,11 +279,11 @@ public class ScrabbleMonitor {
         for (int r = Board.WIDTH - 1; r >= 0; r--) {
             for (int c = Board.WIDTH - 1; c >= 0; c--) {
                 // r and c are converted to x and y in this call
-                drawSquare(c, 14 - r, board.getSquare(new Location(r, c)), false, false, false);
+                drawSquare(c, 14 - r, board.getSquare(Location.at(r, c)), false, false, false);
             }
         }
         // Draw hands
-        List<Character> hand = board.getHand(0);
+        Rack hand = board.getHand(0);
         for (int i = 0; i < hand.size(); i++) {
             drawSquare(16 + i, 14, hand.get(i), false, false, true);
         }
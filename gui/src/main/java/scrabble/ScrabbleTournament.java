@@ -0,0 +1,130 @@
+package scrabble;
+
+import edu.princeton.cs.algs4.StdOut;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A tournament between ScrabbleAIs. Edit the constructor to change the contestants. Each move must be chosen within
+ * MOVE_BUDGET_MILLIS, or the player forfeits the turn.
+ */
+public class ScrabbleTournament {
+
+    /** Time allowed for each move, in milliseconds. */
+    public static final long MOVE_BUDGET_MILLIS = 5000;
+
+    /** Contestants. */
+    private final ScrabbleAI[] players;
+
+    /** Metrics of each contestant's moves. */
+    private final Map<ScrabbleAI, MoveMetrics> metrics = new HashMap<>();
+
+    public ScrabbleTournament() {
+        // List contestants here
+        players = new ScrabbleAI[] {
+          new Incrementalist(),
+          new ScrabbleWinner()
+        };
+    }
+
+    /** Usage: ScrabbleTournament [metricsPrefix]. If given, the metrics are written to metricsPrefix.csv/.json. */
+    public static void main(String[] args) throws IllegalMoveException, IOException {
+        ScrabbleTournament tournament = new ScrabbleTournament();
+        tournament.run();
+        if (args.length > 0) {
+            tournament.writeMetrics(args[0]);
+        }
+    }
+
+    /** Writes the metrics of every contestant's moves so far to prefix.csv and prefix.json. */
+    public void writeMetrics(String prefix) throws IOException {
+        Map<String, MoveMetrics> byName = new LinkedHashMap<>();
+        for (ScrabbleAI player : players) {
+            byName.put(player.toString(), metricsOf(player));
+        }
+        MoveMetrics.write(prefix, byName);
+    }
+
+    /**
+     * Plays two games between each pair of contestants, one with each going first. Prints the number of wins for
+     * each contestant (including 0.5 wins for each tie), and the metrics of its moves.
+     */
+    public void run() throws IllegalMoveException {
+        double[] scores = new double[players.length];
+        for (int i = 0; i < players.length; i++) {
+            for (int j = 0; j < players.length; j++) {
+                if (i != j) {
+                    double[] result = playGame(players[i], players[j]);
+                    scores[i] += result[0];
+                    scores[j] += result[1];
+                }
+            }
+        }
+        for (int i = 0; i < players.length; i++) {
+            StdOut.println(players[i].toString() + ": " + scores[i]);
+        }
+        for (ScrabbleAI player : players) {
+            StdOut.println(player + " " + metricsOf(player));
+        }
+    }
+
+    /** Returns the metrics of player's moves. */
+    private MoveMetrics metricsOf(ScrabbleAI player) {
+        return metrics.computeIfAbsent(player, p -> new MoveMetrics());
+    }
+
+    /**
+     * Plays a game between a (going first) and b. Returns their tournament scores, either {1, 0} (if a wins),
+     * {0, 1}, or {0.5, 0.5}.
+     */
+    public double[] playGame(ScrabbleAI a, ScrabbleAI b) throws IllegalMoveException {
+        StdOut.println(a + " vs " + b + ":");
+        Board board = new Board();
+        GateKeeper[] gateKeepers = {new GateKeeper(board, 0), new GateKeeper(board, 1)};
+        a.setGateKeeper(gateKeepers[0]);
+        b.setGateKeeper(gateKeepers[1]);
+        // One clock per player, so a runaway AI cannot make its opponent wait
+        try (MoveClock clock0 = new MoveClock(MOVE_BUDGET_MILLIS);
+                MoveClock clock1 = new MoveClock(MOVE_BUDGET_MILLIS)) {
+            while (!board.gameIsOver()) {
+                playMove(board, a, gateKeepers[0], clock0, 0);
+                if (!board.gameIsOver()) {
+                    playMove(board, b, gateKeepers[1], clock1, 1);
+                }
+            }
+        }
+        int s0 = board.getScore(0);
+        int s1 = board.getScore(1);
+        StdOut.print(board);
+        StdOut.println("Final score: " + a + " " + s0 + ", " + b + " " + s1);
+        StdOut.println();
+        if (s0 > s1) {
+            return new double[] {1, 0};
+        } else if (s0 < s1) {
+            return new double[] {0, 1};
+        }
+        // Tie -- half credit to each player.
+        return new double[] {0.5, 0.5};
+    }
+
+    /**
+     * Asks player for a move, within MOVE_BUDGET_MILLIS, and plays it on board.
+     * @param gateKeeper Player's GateKeeper.
+     * @param clock Player's MoveClock.
+     * @param playerNumber Player's place in the game turn order (0 or 1).
+     */
+    public void playMove(Board board, ScrabbleAI player, GateKeeper gateKeeper, MoveClock clock, int playerNumber)
+            throws IllegalMoveException {
+        ScrabbleMove move = clock.chooseMove(player, gateKeeper, metricsOf(player));
+        // This fixes a security hole where the AI player returns an instance of a new class implementing ScrabbleMove,
+        // which then manipulates the Board.
+        if (!(move instanceof PlayWord || move instanceof ExchangeTiles)){
+            throw new IllegalMoveException("Bogus ScrabbleMove implementation detected!");
+        }
+        move.play(board, playerNumber);
+    }
+
+}
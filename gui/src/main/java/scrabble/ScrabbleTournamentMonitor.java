@@ -2,12 +2,21 @@ package scrabble;
 
 import edu.princeton.cs.algs4.StdOut;
 
-/** A tournament between ScrabbleAIs. Edit the constructor to change the contestants. */
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A tournament between ScrabbleAIs. Edit the constructor to change the contestants. As in ScrabbleTournament, each
+ * move must be chosen within ScrabbleTournament.MOVE_BUDGET_MILLIS, or the player forfeits the turn.
+ */
 public class ScrabbleTournamentMonitor {
 
     /** Contestants. */
     private final ScrabbleAI[] players;
 
+    /** Metrics of each contestant's moves. */
+    private final Map<ScrabbleAI, MoveMetrics> metrics = new HashMap<>();
+
     public ScrabbleTournamentMonitor() {
         // List contestants here
         players = new ScrabbleAI[] {
@@ -22,7 +31,7 @@ public class ScrabbleTournamentMonitor {
 
     /**
      * Plays two games between each pair of contestants, one with each going first. Prints the number of wins for
-     * each contestant (including 0.5 wins for each tie).
+     * each contestant (including 0.5 wins for each tie), and the metrics of its moves.
      */
     public void run() throws IllegalMoveException {
         double[] scores = new double[players.length];
@@ -38,6 +47,14 @@ public class ScrabbleTournamentMonitor {
         for (int i = 0; i < players.length; i++) {
             StdOut.println(players[i].toString() + ": " + scores[i]);
         }
+        for (ScrabbleAI player : players) {
+            StdOut.println(player + " " + metricsOf(player));
+        }
+    }
+
+    /** Returns the metrics of player's moves. */
+    private MoveMetrics metricsOf(ScrabbleAI player) {
+        return metrics.computeIfAbsent(player, p -> new MoveMetrics());
     }
 
     /**
@@ -47,14 +64,19 @@ public class ScrabbleTournamentMonitor {
     public double[] playGame(ScrabbleAI a, ScrabbleAI b) throws IllegalMoveException {
         StdOut.println(a + " vs " + b + ":");
         Board board = new Board();
-        a.setGateKeeper(new GateKeeper(board, 0));
-        b.setGateKeeper(new GateKeeper(board, 1));
-        while (!board.gameIsOver()) {
-            playMove(board, a, 0);
-            StdOut.print(board);
-            if (!board.gameIsOver()) {
-                playMove(board, b, 1);
+        GateKeeper[] gateKeepers = {new GateKeeper(board, 0), new GateKeeper(board, 1)};
+        a.setGateKeeper(gateKeepers[0]);
+        b.setGateKeeper(gateKeepers[1]);
+        // One clock per player, so a runaway AI cannot make its opponent wait
+        try (MoveClock clock0 = new MoveClock(ScrabbleTournament.MOVE_BUDGET_MILLIS);
+                MoveClock clock1 = new MoveClock(ScrabbleTournament.MOVE_BUDGET_MILLIS)) {
+            while (!board.gameIsOver()) {
+                playMove(board, a, gateKeepers[0], clock0, 0);
                 StdOut.print(board);
+                if (!board.gameIsOver()) {
+                    playMove(board, b, gateKeepers[1], clock1, 1);
+                    StdOut.print(board);
+                }
             }
         }
         int s0 = board.getScore(0);
@@ -72,11 +94,14 @@ public class ScrabbleTournamentMonitor {
     }
 
     /**
-     * Asks player for a move and plays it on board.
+     * Asks player for a move, within ScrabbleTournament.MOVE_BUDGET_MILLIS, and plays it on board.
+     * @param gateKeeper Player's GateKeeper.
+     * @param clock Player's MoveClock.
      * @param playerNumber Player's place in the game turn order (0 or 1).
      */
-    public void playMove(Board board, ScrabbleAI player, int playerNumber) throws IllegalMoveException {
-        ScrabbleMove move = player.chooseMove();
+    public void playMove(Board board, ScrabbleAI player, GateKeeper gateKeeper, MoveClock clock, int playerNumber)
+            throws IllegalMoveException {
+        ScrabbleMove move = clock.chooseMove(player, gateKeeper, metricsOf(player));
         // This fixes a security hole where the AI player returns an instance of a new class implementing ScrabbleMove,
         // which then manipulates the Board.
         if (!(move instanceof PlayWord || move instanceof ExchangeTiles)){
@@ -0,0 +1,69 @@
+package scrabble;
+
+/** Prints the first word under each letter of the Lexicon, walked through a DictGraph. */
+public class ScrabbleWinnerGym {
+    public static void main(String[] args) {
+        DictGraph dictGraph = new DictGraph(Lexicon.getDefault());
+        dictGraph.printTest(5000);
+    }
+
+    /**
+     * My graph implementation: a view of the shared, read-only Lexicon. Edges are Lexicon nodes; the edge for a
+     * letter leads to the node reached by following that letter.
+     */
+    public static class DictGraph {
+        private final Lexicon lexicon;
+        public final int root = Lexicon.ROOT;
+
+        /**
+         * Constructor. Takes the lexicon to walk
+         * @param lexicon
+         */
+        DictGraph(Lexicon lexicon) {
+            this.lexicon = lexicon;
+        }
+
+        /**
+         * "Get" the edge from start edge to out edge with char c
+         * @param start leading edge
+         * @param c following edge
+         * @return the out edge, or Lexicon.NONE if there is none
+         */
+        int getEdge(int start, char c) {
+            return lexicon.child(start, c);
+        }
+
+        /** True if the path to edge spells a word. */
+        boolean isTerminal(int edge) {
+            return lexicon.isWord(edge);
+        }
+
+        /** Letters of the out edges of edge, as a bit set with bit 0 for 'a'. */
+        int letters(int edge) {
+            return lexicon.letters(edge);
+        }
+
+        // Test Function
+        void printTest(int numWordsToPrint) {
+            int i = 0;
+            for (int letters = letters(root); letters != 0; letters &= letters - 1) {
+                if (i >= numWordsToPrint) return;
+                char letter = (char) ('a' + Integer.numberOfTrailingZeros(letters));
+                System.out.println(letter + makeWord("", getEdge(root, letter)));
+                i++;
+            }
+        }
+
+        // Test function
+        String makeWord(String string, int edge) {
+            int letters = letters(edge);
+            if (letters == 0) return null;
+            char letter = (char) ('a' + Integer.numberOfTrailingZeros(letters));
+            string += letter;
+            int edgeOut = getEdge(edge, letter);
+            if (isTerminal(edgeOut)) return string;
+            return makeWord(string, edgeOut);
+        }
+    }
+
+}
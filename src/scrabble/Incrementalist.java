@@ -1,105 +0,0 @@
-package scrabble;
-
-import java.util.ArrayList;
-
-/**
- * Dumb AI that picks the highest-scoring one-tile move. Plays a two-tile move on the first turn. Exchanges all of its
- * letters if it can't find any other move.
- */
-public class Incrementalist implements ScrabbleAI {
-
-    /** When exchanging, always exchange everything. */
-    private static final boolean[] ALL_TILES = {true, true, true, true, true, true, true};
-
-    /** The GateKeeper through which this Incrementalist accesses the Board. */
-    private GateKeeper gateKeeper;
-
-    @Override
-    public void setGateKeeper(GateKeeper gateKeeper) {
-        this.gateKeeper = gateKeeper;
-    }
-
-    @Override
-    public ScrabbleMove chooseMove() {
-        if (gateKeeper.getSquare(Location.CENTER) == Board.DOUBLE_WORD_SCORE) {
-            return findTwoTileMove();
-        }
-        return findOneTileMove();
-    }
-
-    /** This is necessary for the first turn, as one-letter words are not allowed. */
-    private ScrabbleMove findTwoTileMove() {
-        ArrayList<Character> hand = gateKeeper.getHand();
-        String bestWord = null;
-        int bestScore = -1;
-        for (int i = 0; i < hand.size(); i++) {
-            for (int j = 0; j < hand.size(); j++) {
-                if (i != j) {
-                    try {
-                        char a = hand.get(i);
-                        if (a == '_') {
-                            a = 'E'; // This could be improved slightly by trying all possibilities for the blank
-                        }
-                        char b = hand.get(j);
-                        if (b == '_') {
-                            b = 'E'; // This could be improved slightly by trying all possibilities for the blank
-                        }
-                        String word = "" + a + b;
-                        gateKeeper.verifyLegality(word, Location.CENTER, Location.HORIZONTAL);
-                        int score = gateKeeper.score(word, Location.CENTER, Location.HORIZONTAL);
-                        if (score > bestScore) {
-                            bestScore = score;
-                            bestWord = word;
-                        }
-                    } catch (IllegalMoveException e) {
-                        // It wasn't legal; go on to the next one
-                    }
-                }
-            }
-        }
-        if (bestScore > -1) {
-            return new PlayWord(bestWord, Location.CENTER, Location.HORIZONTAL);
-        }
-        return new ExchangeTiles(ALL_TILES);
-    }
-
-    /**
-     * Technically this tries to make a two-letter word by playing one tile; it won't find words that simply add a
-     * tile to the end of an existing word.
-     */
-    private ScrabbleMove findOneTileMove() {
-        ArrayList<Character> hand = gateKeeper.getHand();
-        PlayWord bestMove = null;
-        int bestScore = -1;
-        for (int i = 0; i < hand.size(); i++) {
-            char c = hand.get(i);
-            if (c == '_') {
-                c = 'E'; // This could be improved slightly by trying all possibilities for the blank
-            }
-            for (String word : new String[] {c + " ", " " + c}) {
-                for (int row = 0; row < Board.WIDTH; row++) {
-                    for (int col = 0; col < Board.WIDTH; col++) {
-                        Location location = new Location(row, col);
-                        for (Location direction : new Location[] {Location.HORIZONTAL, Location.VERTICAL}) {
-                            try {
-                                gateKeeper.verifyLegality(word, location, direction);
-                                int score = gateKeeper.score(word, location, direction);
-                                if (score > bestScore) {
-                                    bestScore = score;
-                                    bestMove = new PlayWord(word, location, direction);
-                                }
-                            } catch (IllegalMoveException e) {
-                                // It wasn't legal; go on to the next one
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        if (bestMove != null) {
-            return bestMove;
-        }
-        return new ExchangeTiles(ALL_TILES);
-    }
-
-}
@@ -0,0 +1,241 @@
+package scrabble;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Checks Board.makeMove, makePass and unmakeMove by playing seeded games of random legal moves. Before each move, a few
+ * random lines of play (a move and some random replies) are made and then all taken back. The Board must then match a
+ * second Board that has only ever played the game's moves forward, with the same squares, bag order, hands, scores,
+ * player to move, pass count and Zobrist key. Every cross-check, cross score and anchor of both Boards, and each
+ * Board's Zobrist key, must also match one recomputed from scratch.
+ *
+ * Usage: BoardSelfCheck [games [seed]], defaulting to 20 games seeded from 0. Stops with exit status 1 at the first
+ * mismatch.
+ */
+public class BoardSelfCheck {
+
+    /** Number of lines of play made and taken back before each move. */
+    private static final int LINES_PER_MOVE = 4;
+
+    /** Greatest number of moves in a line of play. */
+    private static final int MAX_LINE_LENGTH = 3;
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        MoveGenerator generator = new MoveGenerator(Lexicon.getDefault());
+        long checks = 0;
+        for (long game = seed; game < seed + games; game++) {
+            SplittableRandom random = new SplittableRandom(game);
+            Board board = new Board(game);
+            Board forward = new Board(game);
+            for (int turn = 0; !board.gameIsOver(); turn++) {
+                for (int line = 0; line < LINES_PER_MOVE; line++) {
+                    List<Board.Undo> undos = new ArrayList<>();
+                    int length = 1 + random.nextInt(MAX_LINE_LENGTH);
+                    while (undos.size() < length && !board.gameIsOver()) {
+                        undos.add(make(board, chooseMove(board, generator, random)));
+                    }
+                    for (int u = undos.size() - 1; u >= 0; u--) {
+                        board.unmakeMove(undos.get(u));
+                    }
+                    check(board, forward, game, turn, "after taking back " + undos.size() + " moves");
+                    checks++;
+                }
+                PlayWord move = chooseMove(board, generator, random);
+                make(board, move);
+                make(forward, move);
+                check(board, forward, game, turn, "after playing " + (move == null ? "a pass" : move.getWord().trim()));
+                checks++;
+            }
+        }
+        System.out.println("Made " + checks + " checks in " + games + " games; all agree");
+    }
+
+    /** Returns a random legal move for the player to move on board, or null (a pass) if there is none. */
+    private static PlayWord chooseMove(Board board, MoveGenerator generator, SplittableRandom random) {
+        List<PlayWord> moves = new ArrayList<>();
+        generator.generate(new GateKeeper(board, board.getCurrentPlayer()),
+                (word, location, direction) -> moves.add(new PlayWord(word, location, direction)));
+        // Pass now and then, so that taking back passes (and games ending on them) are checked too
+        if (moves.isEmpty() || random.nextInt(20) == 0) {
+            return null;
+        }
+        return moves.get(random.nextInt(moves.size()));
+    }
+
+    /** Plays move (or a pass, if move is null) on board. */
+    private static Board.Undo make(Board board, PlayWord move) {
+        if (move == null) {
+            return board.makePass();
+        }
+        return board.makeMove(move.getWord(), move.getLocation(), move.getDirection());
+    }
+
+    /** Exits with a description if board differs from forward, or either has stale cached state. */
+    private static void check(Board board, Board forward, long game, int turn, String when) {
+        String problem = findDifference(board, forward);
+        if (problem == null) {
+            problem = findStaleState(board);
+        }
+        if (problem == null) {
+            problem = findStaleState(forward);
+        }
+        if (problem != null) {
+            System.out.printf("Game %d, turn %d, %s: %s%n%s", game, turn, when, problem, board);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns a description of the first difference between the game state of board and other (the squares, the bag in
+     * order, the hands, the scores, the player to move, the pass count and the Zobrist key), or null if there is none.
+     */
+    private static String findDifference(Board board, Board other) {
+        for (int i = 0; i < Board.WIDTH * Board.WIDTH; i++) {
+            Location location = Location.at(i);
+            if (board.getSquare(location) != other.getSquare(location)) {
+                return "square " + location + " holds " + board.getSquare(location) + ", not "
+                        + other.getSquare(location);
+            }
+        }
+        if (!board.getBag().equals(other.getBag())) {
+            return "bag is " + board.getBag() + ", not " + other.getBag();
+        }
+        for (int p = 0; p < 2; p++) {
+            if (!board.getHand(p).equals(other.getHand(p))) {
+                return "hand " + p + " is " + board.getHand(p) + ", not " + other.getHand(p);
+            }
+            if (board.getScore(p) != other.getScore(p)) {
+                return "score " + p + " is " + board.getScore(p) + ", not " + other.getScore(p);
+            }
+        }
+        if (board.getCurrentPlayer() != other.getCurrentPlayer()) {
+            return "player " + board.getCurrentPlayer() + " is to move, not " + other.getCurrentPlayer();
+        }
+        if (board.getNumberOfPasses() != other.getNumberOfPasses()) {
+            return "pass count is " + board.getNumberOfPasses() + ", not " + other.getNumberOfPasses();
+        }
+        if (board.getZobristKey() != other.getZobristKey()) {
+            return String.format("Zobrist key is %016x, not %016x", board.getZobristKey(), other.getZobristKey());
+        }
+        return null;
+    }
+
+    /**
+     * Returns a description of the first incrementally maintained value of board that differs from one recomputed from
+     * scratch, or null if there is none. Covers the Zobrist key, and the cross-checks, cross scores and
+     * anchors of every square. The anchors and occupied squares are also kept column by column, which
+     * canBePlacedOnBoard and wouldBeConnected read for vertical words; placing a single tile both ways on every square
+     * covers those copies too.
+     */
+    private static String findStaleState(Board board) {
+        boolean empty = true;
+        for (int i = 0; i < Board.WIDTH * Board.WIDTH && empty; i++) {
+            empty = !isTile(board, Location.at(i));
+        }
+        BitSet anchors = board.getAnchors();
+        for (int i = 0; i < Board.WIDTH * Board.WIDTH; i++) {
+            Location location = Location.at(i);
+            boolean occupied = isTile(board, location);
+            boolean anchor;
+            if (empty) {
+                anchor = location.equals(Location.CENTER);
+            } else {
+                anchor = false;
+                for (Location d : new Location[] {Location.HORIZONTAL, Location.VERTICAL}) {
+                    anchor |= isTile(board, location.antineighbor(d)) || isTile(board, location.neighbor(d));
+                }
+                anchor &= !occupied;
+            }
+            if (board.isAnchor(location) != anchor || anchors.get(i) != anchor) {
+                return "anchor at " + location + " is " + board.isAnchor(location) + ", not " + anchor;
+            }
+            for (Location direction : new Location[] {Location.HORIZONTAL, Location.VERTICAL}) {
+                String name = direction == Location.HORIZONTAL ? "horizontal" : "vertical";
+                Location across = direction.opposite();
+                int crossCheck = occupied ? 0 : crossCheck(board, location, across);
+                if (board.getCrossCheck(location, direction) != crossCheck) {
+                    return name + " cross-check at " + location + " is " + board.getCrossCheck(location, direction)
+                            + ", not " + crossCheck;
+                }
+                int crossScore = occupied ? -1 : crossScore(board, location, across);
+                if (board.getCrossScore(location, direction) != crossScore) {
+                    return name + " cross score at " + location + " is " + board.getCrossScore(location, direction)
+                            + ", not " + crossScore;
+                }
+                boolean placeable = !occupied && !isTile(board, location.antineighbor(direction))
+                        && !isTile(board, location.neighbor(direction));
+                if (board.canBePlacedOnBoard("a", location, direction) != placeable) {
+                    return name + " placement of one tile at " + location + " is "
+                            + board.canBePlacedOnBoard("a", location, direction) + ", not " + placeable;
+                }
+                if (board.wouldBeConnected("a", location, direction) != anchor) {
+                    return name + " connection of one tile at " + location + " is "
+                            + board.wouldBeConnected("a", location, direction) + ", not " + anchor;
+                }
+            }
+        }
+        long key = board.computeZobristKey();
+        if (board.getZobristKey() != key) {
+            return String.format("Zobrist key is %016x, not %016x", board.getZobristKey(), key);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the letters that may be played on the empty square location without forming an invalid word through it
+     * in direction, as a bit set with bit 0 for 'a'. Spells out each candidate word and looks it up whole.
+     */
+    private static int crossCheck(Board board, Location location, Location direction) {
+        String before = tilesFrom(board, location.antineighbor(direction), direction, false);
+        String after = tilesFrom(board, location.neighbor(direction), direction, true);
+        if (before.isEmpty() && after.isEmpty()) {
+            return Lexicon.ALL_LETTERS;
+        }
+        int result = 0;
+        for (char c = 'a'; c <= 'z'; c++) {
+            if (Lexicon.getDefault().contains(before + c + after)) {
+                result |= 1 << (c - 'a');
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total value of the tiles in the word through the empty square location in direction, or -1 if no
+     * word would be formed.
+     */
+    private static int crossScore(Board board, Location location, Location direction) {
+        String word = tilesFrom(board, location.antineighbor(direction), direction, false)
+                + tilesFrom(board, location.neighbor(direction), direction, true);
+        if (word.isEmpty()) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = 0; i < word.length(); i++) {
+            result += Board.tileValue(word.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the run of tiles starting at location and going forward (or backward) in direction, in reading order.
+     */
+    private static String tilesFrom(Board board, Location location, Location direction, boolean forward) {
+        StringBuilder result = new StringBuilder();
+        for (Location l = location; isTile(board, l); l = forward ? l.neighbor(direction) : l.antineighbor(direction)) {
+            result.append(board.getSquare(l));
+        }
+        return forward ? result.toString() : result.reverse().toString();
+    }
+
+    /** Returns true if location is on the board and holds a tile. */
+    private static boolean isTile(Board board, Location location) {
+        return location.isOnBoard() && Character.isLetter(board.getSquare(location));
+    }
+
+}
@@ -0,0 +1,325 @@
+package scrabble;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless self-play trainer for a LeaveTable. Games are played concurrently on an executor, each on its own Board,
+ * by a player choosing the move with the best equity under the current table. Every move made while tiles remain in
+ * the bag yields a sample: the leave, and the change in the mover's spread (own score minus opponent's) from just
+ * after that move to just after the mover's next move (or the end of the game). A leave's value is its mean sample
+ * less the mean of all samples, shrunk towards 0 when there are few samples.
+ *
+ * Training proceeds in rounds. In each round every thread plays its share of the games, streaming samples into its
+ * own Accumulator; the accumulators are then merged (in a fixed order, so seeded runs are reproducible), and the
+ * updated table and a checkpoint of the running totals are written to disk. Later rounds play with the updated
+ * table. A run resumes from its checkpoint, if there is one, continuing the game count (and seed sequence). The
+ * checkpoint records the seed, and a run with a different seed (or none, where the checkpoint has one) refuses to
+ * resume from it, as the result would match neither run.
+ *
+ * Usage: LeaveTrainer [games [threads [gamesPerRound [seed]]]], defaulting to 10000 games, one thread per core, 1000
+ * games per round, and unseeded Boards. The table is written to LeaveTable.LEAVES_FILE and the checkpoint to
+ * CHECKPOINT_FILE.
+ */
+public class LeaveTrainer {
+
+    /** Checkpoint file, holding the running totals. */
+    public static final String CHECKPOINT_FILE = "leaves.ckpt";
+
+    /** Number of (imaginary) samples of value 0 each leave starts with, to damp leaves that are rarely seen. */
+    private static final double PRIOR_SAMPLES = 20;
+
+    /** First int of a checkpoint file ("LCKP"). */
+    private static final int MAGIC = 0x4C434B50;
+
+    /** Format version of checkpoint files. */
+    private static final int VERSION = 2;
+
+    /** Where games are played. */
+    private final ExecutorService executor;
+
+    /** Number of tasks each round is split into. */
+    private final int threads;
+
+    /** Seed for the Board of game 0 (game k uses seed + k), or null for unseeded Boards. */
+    private Long seed;
+
+    /** Sum of the samples for each leave, indexed by LeaveTable.index. */
+    private final double[] sums = new double[LeaveTable.SIZE];
+
+    /** Number of samples for each leave. */
+    private final int[] counts = new int[LeaveTable.SIZE];
+
+    /** Sum of all samples. */
+    private double totalSum;
+
+    /** Number of samples. */
+    private long totalCount;
+
+    /** Number of games played, including those before any checkpoint resumed from. */
+    private long games;
+
+    /** The table the players use, replaced after each round. */
+    private LeaveTable table = new LeaveTable();
+
+    /** Samples recorded by one thread during one round. */
+    private static class Accumulator {
+
+        /** Leave of each sample, as a LeaveTable index; only the first size are in use. */
+        private int[] leaves = new int[1 << 12];
+
+        /** Spread change of each sample, parallel to leaves. */
+        private float[] targets = new float[1 << 12];
+
+        private int size;
+
+        void add(int leave, float target) {
+            if (size == leaves.length) {
+                leaves = Arrays.copyOf(leaves, 2 * size);
+                targets = Arrays.copyOf(targets, 2 * size);
+            }
+            leaves[size] = leave;
+            targets[size] = target;
+            size++;
+        }
+
+    }
+
+    /**
+     * @param executor Where games are played. Not shut down by this LeaveTrainer.
+     * @param threads Number of tasks to split each round into, usually the executor's number of threads.
+     */
+    public LeaveTrainer(ExecutorService executor, int threads) {
+        this.executor = executor;
+        this.threads = threads;
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException, IOException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 10000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int gamesPerRound = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            LeaveTrainer trainer = new LeaveTrainer(executor, threads);
+            if (args.length > 3) {
+                trainer.setSeed(Long.parseLong(args[3]));
+            }
+            Path checkpoint = Paths.get(CHECKPOINT_FILE);
+            if (Files.exists(checkpoint)) {
+                trainer.readCheckpoint(checkpoint);
+                System.out.printf("Resumed from %s after %d games%n", checkpoint, trainer.getGames());
+            }
+            trainer.train(games, gamesPerRound, Paths.get(LeaveTable.LEAVES_FILE), checkpoint);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** Makes game k use a Board seeded with seed + k. */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /** Returns the number of games played so far, including those before any checkpoint resumed from. */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Plays rounds of gamesPerRound games until games have been played in total, writing the table to tableFile and
+     * the checkpoint to checkpointFile after each round, and printing progress.
+     */
+    public void train(long games, int gamesPerRound, Path tableFile, Path checkpointFile)
+            throws InterruptedException, ExecutionException, IOException {
+        while (this.games < games) {
+            int n = (int) Math.min(gamesPerRound, games - this.games);
+            long start = System.nanoTime();
+            playRound(n);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            table.write(tableFile);
+            writeCheckpoint(checkpointFile);
+            System.out.printf("%d games, %d samples, mean %.2f; round of %d games in %.1f s (%.0f games/s)%n",
+                    this.games, totalCount, totalSum / Math.max(totalCount, 1), n, seconds, n / seconds);
+        }
+    }
+
+    /** Plays n games, split among the threads, merges their samples, and updates the table. */
+    public void playRound(int n) throws InterruptedException, ExecutionException {
+        LeaveTable current = table;
+        List<Future<Accumulator>> tasks = new ArrayList<>();
+        long first = games;
+        for (int t = 0; t < threads; t++) {
+            long from = first + (long) n * t / threads;
+            long to = first + (long) n * (t + 1) / threads;
+            tasks.add(executor.submit(() -> playGames(from, to, current)));
+        }
+        for (Future<Accumulator> task : tasks) {
+            merge(task.get());
+        }
+        games += n;
+        table = buildTable();
+    }
+
+    /** Plays games from through to - 1 using table, and returns their samples. */
+    private Accumulator playGames(long from, long to, LeaveTable table) {
+        Accumulator samples = new Accumulator();
+        MoveGenerator generator = new MoveGenerator(Lexicon.getDefault());
+        LeaveEvaluator evaluator = new LeaveEvaluator(table);
+        for (long game = from; game < to; game++) {
+            playGame(seed == null ? new Board() : new Board(seed + game), generator, evaluator, samples);
+        }
+        return samples;
+    }
+
+    /** Plays a self-play game on board, which must be new, recording samples. */
+    private static void playGame(Board board, MoveGenerator generator, LeaveEvaluator evaluator,
+                                 Accumulator samples) {
+        GateKeeper[] gateKeepers = {new GateKeeper(board, 0), new GateKeeper(board, 1)};
+        // For each player, the leave of its last move awaiting a sample (or -1), and its spread after that move
+        int[] pendingLeaves = {-1, -1};
+        int[] pendingSpreads = new int[2];
+        String[] word = new String[1];
+        Location[] location = new Location[1];
+        Location[] direction = new Location[1];
+        float[] bestEquity = new float[1];
+        while (!board.gameIsOver()) {
+            int player = board.getCurrentPlayer();
+            Rack hand = board.getHand(player);
+            evaluator.setHand(hand, board.getBagSize());
+            word[0] = null;
+            bestEquity[0] = Float.NEGATIVE_INFINITY;
+            generator.generate(gateKeepers[player], (w, l, d) -> {
+                float equity = evaluator.evaluate(w, board.score(w, l, d));
+                if (equity > bestEquity[0]) {
+                    bestEquity[0] = equity;
+                    word[0] = w;
+                    location[0] = l;
+                    direction[0] = d;
+                }
+            });
+            int leave = -1;
+            if (word[0] == null) {
+                board.makePass();
+            } else {
+                if (board.getBagSize() > 0) {
+                    leave = leaveIndex(hand, word[0]);
+                }
+                board.makeMove(word[0], location[0], direction[0]);
+            }
+            int spread = board.getScore(player) - board.getScore(1 - player);
+            if (pendingLeaves[player] >= 0) {
+                samples.add(pendingLeaves[player], spread - pendingSpreads[player]);
+            }
+            pendingLeaves[player] = leave;
+            pendingSpreads[player] = spread;
+        }
+        for (int player = 0; player < 2; player++) {
+            if (pendingLeaves[player] >= 0) {
+                int spread = board.getScore(player) - board.getScore(1 - player);
+                samples.add(pendingLeaves[player], spread - pendingSpreads[player]);
+            }
+        }
+    }
+
+    /** Returns the LeaveTable index of the tiles left in hand after playing word. */
+    private static int leaveIndex(Rack hand, String word) {
+        Rack leave = new Rack(hand);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c != ' ') {
+                leave.remove(Character.isUpperCase(c) ? '_' : c);
+            }
+        }
+        return LeaveTable.index(leave);
+    }
+
+    /** Adds samples to the running totals. */
+    private void merge(Accumulator samples) {
+        for (int i = 0; i < samples.size; i++) {
+            sums[samples.leaves[i]] += samples.targets[i];
+            counts[samples.leaves[i]]++;
+            totalSum += samples.targets[i];
+        }
+        totalCount += samples.size;
+    }
+
+    /** Returns a table of the leave values implied by the running totals. */
+    public LeaveTable buildTable() {
+        LeaveTable result = new LeaveTable();
+        double mean = totalCount == 0 ? 0 : totalSum / totalCount;
+        for (int i = 0; i < LeaveTable.SIZE; i++) {
+            if (counts[i] > 0) {
+                result.set(i, (float) ((sums[i] - counts[i] * mean) / (counts[i] + PRIOR_SAMPLES)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes the running totals and game count to file, replacing it only once the new checkpoint is complete, so an
+     * interrupted run can always resume from the last round.
+     */
+    public void writeCheckpoint(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(LeaveTable.SIZE);
+            out.writeBoolean(seed != null);
+            out.writeLong(seed == null ? 0 : seed);
+            out.writeLong(games);
+            out.writeLong(totalCount);
+            out.writeDouble(totalSum);
+            for (int i = 0; i < LeaveTable.SIZE; i++) {
+                out.writeDouble(sums[i]);
+                out.writeInt(counts[i]);
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Replaces the running totals and game count with those in a checkpoint written by writeCheckpoint, and rebuilds
+     * the table from them. The seed must be set (or not) as it was for the run that wrote the checkpoint.
+     *
+     * @throws IOException if the file cannot be read, is not a checkpoint, or was written with a different seed.
+     */
+    public void readCheckpoint(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != LeaveTable.SIZE) {
+                throw new IOException(file + " is not a leave trainer checkpoint.");
+            }
+            boolean seeded = in.readBoolean();
+            long checkpointSeed = in.readLong();
+            Long written = seeded ? Long.valueOf(checkpointSeed) : null;
+            if (!Objects.equals(written, seed)) {
+                throw new IOException(file + " was written by a run with seed " + (seeded ? checkpointSeed : "none")
+                        + ", not " + (seed == null ? "none" : seed) + ".");
+            }
+            games = in.readLong();
+            totalCount = in.readLong();
+            totalSum = in.readDouble();
+            for (int i = 0; i < LeaveTable.SIZE; i++) {
+                sums[i] = in.readDouble();
+                counts[i] = in.readInt();
+            }
+        }
+        table = buildTable();
+    }
+
+}
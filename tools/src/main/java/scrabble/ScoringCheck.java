@@ -0,0 +1,111 @@
+package scrabble;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks Board.score and Board.scoreAll against a reference scorer written straight from the rules, which walks every
+ * word it forms square by square and uses none of the Board's cached cross scores or premium tables. Plays seeded
+ * games between ScrabbleWinner and Incrementalist and, at every position, scores every move MoveGenerator finds both
+ * ways.
+ *
+ * Among other things this covers a cross word whose second letter is the tile being played. The original scoreWord
+ * scored those as 0, taking the empty square after the cross word's first letter to mean no cross word was formed.
+ *
+ * Usage: ScoringCheck [games [seed]], defaulting to 10 games seeded from 0. Stops with exit status 1 at the first
+ * mismatch.
+ */
+public class ScoringCheck {
+
+    public static void main(String[] args) throws IllegalMoveException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        MoveGenerator generator = new MoveGenerator(Lexicon.getDefault());
+        long moves = 0;
+        for (int g = 0; g < games; g++) {
+            Board board = new Board(seed + g);
+            ScrabbleAI[] players = {new ScrabbleWinner(), new Incrementalist()};
+            players[0].setGateKeeper(new GateKeeper(board, 0));
+            players[1].setGateKeeper(new GateKeeper(board, 1));
+            while (!board.gameIsOver()) {
+                int player = board.getCurrentPlayer();
+                List<PlayWord> candidates = new ArrayList<>();
+                generator.generate(new GateKeeper(board, player),
+                        (word, location, direction) -> candidates.add(new PlayWord(word, location, direction)));
+                PlayWord[] batch = candidates.toArray(new PlayWord[0]);
+                int[] scores = new int[batch.length];
+                board.scoreAll(batch, batch.length, scores);
+                for (int i = 0; i < batch.length; i++) {
+                    PlayWord move = batch[i];
+                    int expected = referenceScore(board, move.getWord(), move.getLocation(), move.getDirection());
+                    int actual = board.score(move.getWord(), move.getLocation(), move.getDirection());
+                    if (actual != expected || scores[i] != expected) {
+                        System.out.printf("Game %d: \"%s\" at %s %s scored %d (scoreAll %d), expected %d%n%s", seed + g,
+                                move.getWord(), move.getLocation(),
+                                move.getDirection() == Location.HORIZONTAL ? "across" : "down", actual, scores[i],
+                                expected, board);
+                        System.exit(1);
+                    }
+                }
+                moves += batch.length;
+                players[player].chooseMove().play(board, player);
+            }
+        }
+        System.out.println("Scored " + moves + " moves in " + games + " games; all agree");
+    }
+
+    /** Returns the score for playing word at location in direction on board, computed from the rules. */
+    private static int referenceScore(Board board, String word, Location location, Location direction) {
+        Location across = direction.opposite();
+        int wordScore = 0;
+        int multiplier = 1;
+        int crossWordScores = 0;
+        int tilesPlayed = 0;
+        Location square = location;
+        for (int k = 0; k < word.length(); k++, square = square.neighbor(direction)) {
+            char c = word.charAt(k);
+            if (c == ' ') {
+                wordScore += Board.tileValue(board.getSquare(square));
+                continue;
+            }
+            char premium = Board.LAYOUT[square.getRow()].charAt(square.getColumn());
+            int letterScore = Board.tileValue(c) * letterMultiplier(premium);
+            wordScore += letterScore;
+            multiplier *= wordMultiplier(premium);
+            tilesPlayed++;
+            // Walk back to the start of the cross word through this square, then along it
+            Location start = square;
+            while (isTile(board, start.antineighbor(across))) {
+                start = start.antineighbor(across);
+            }
+            int crossScore = 0;
+            boolean formed = false;
+            for (Location t = start; t.equals(square) || isTile(board, t); t = t.neighbor(across)) {
+                if (t.equals(square)) {
+                    crossScore += letterScore;
+                } else {
+                    crossScore += Board.tileValue(board.getSquare(t));
+                    formed = true;
+                }
+            }
+            if (formed) {
+                crossWordScores += crossScore * wordMultiplier(premium);
+            }
+        }
+        return wordScore * multiplier + crossWordScores + (tilesPlayed == 7 ? 50 : 0);
+    }
+
+    /** Returns true if location is on the board and holds a tile. */
+    private static boolean isTile(Board board, Location location) {
+        return location.isOnBoard() && Character.isLetter(board.getSquare(location));
+    }
+
+    private static int letterMultiplier(char premium) {
+        return premium == Board.DOUBLE_LETTER_SCORE ? 2 : premium == Board.TRIPLE_LETTER_SCORE ? 3 : 1;
+    }
+
+    private static int wordMultiplier(char premium) {
+        return premium == Board.DOUBLE_WORD_SCORE ? 2 : premium == Board.TRIPLE_WORD_SCORE ? 3 : 1;
+    }
+
+}
@@ -0,0 +1,272 @@
+package scrabble;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * A headless tournament between ScrabbleAIs for evaluating changes over many games. Each ordered pairing plays a
+ * configurable number of games, concurrently on an executor; every game gets its own Board and fresh ScrabbleAI
+ * instances. Only a summary is printed. Edit the constructor to change the contestants.
+ *
+ * If a seed is given, game k of every pairing uses a Board seeded with seed + k, so each contestant faces exactly the
+ * same tile sequences from both sides of the table, and runs can be replayed.
+ *
+ * If a move budget is given, each move must be chosen within it, as enforced by a MoveClock, or the player forfeits
+ * the turn. Either way, each contestant's MoveMetrics are summarized, and can be written as CSV and JSON.
+ *
+ * Usage: ScrabbleBatchRunner [gamesPerPairing [threads [seed [moveBudgetMillis [metricsPrefix]]]]], defaulting to 100
+ * games, one thread per core, unseeded Boards, no move budget, and no metrics files.
+ */
+public class ScrabbleBatchRunner {
+
+    /** Names of the contestants, for the summary. */
+    private final List<String> names = new ArrayList<>();
+
+    /** Factories for the contestants; each game gets new instances. */
+    private final List<Supplier<ScrabbleAI>> contestants = new ArrayList<>();
+
+    /** Number of games played with each contestant going first against each other contestant. */
+    private final int gamesPerPairing;
+
+    /** Where games are played. */
+    private final ExecutorService executor;
+
+    /** Seed for the Board of the first game of each pairing, or null for unseeded Boards. */
+    private Long seed;
+
+    /** Time allowed for each move, in milliseconds, or 0 for unlimited. */
+    private long moveBudgetMillis;
+
+    /**
+     * @param gamesPerPairing Number of games played with each contestant going first against each other contestant.
+     * @param executor Where games are played. Not shut down by this ScrabbleBatchRunner.
+     */
+    public ScrabbleBatchRunner(int gamesPerPairing, ExecutorService executor) {
+        this.gamesPerPairing = gamesPerPairing;
+        this.executor = executor;
+        // List contestants here
+        addContestant("Incrementalist", Incrementalist::new);
+        addContestant("ScrabbleWinner", ScrabbleWinner::new);
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException, IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            ScrabbleBatchRunner runner = new ScrabbleBatchRunner(games, executor);
+            if (args.length > 2) {
+                runner.setSeed(Long.parseLong(args[2]));
+            }
+            if (args.length > 3) {
+                runner.setMoveBudget(Long.parseLong(args[3]));
+            }
+            Summary[] summaries = runner.run();
+            for (Summary summary : summaries) {
+                System.out.println(summary);
+            }
+            if (args.length > 4) {
+                Map<String, MoveMetrics> metrics = new LinkedHashMap<>();
+                for (Summary summary : summaries) {
+                    metrics.put(summary.getName(), summary.getMetrics());
+                }
+                MoveMetrics.write(args[4], metrics);
+            }
+            System.out.printf("%d threads, %.1f s%n", threads, (System.nanoTime() - start) / 1e9);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** Adds a contestant. */
+    public void addContestant(String name, Supplier<ScrabbleAI> factory) {
+        names.add(name);
+        contestants.add(factory);
+    }
+
+    /** Makes game k of every pairing use a Board seeded with seed + k. */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /** Makes every move due within budgetMillis milliseconds (0 for unlimited), or forfeited. */
+    public void setMoveBudget(long budgetMillis) {
+        this.moveBudgetMillis = budgetMillis;
+    }
+
+    /**
+     * Plays all of the games and returns a Summary for each contestant, in the order they were added.
+     *
+     * @throws ExecutionException if any game fails, e.g., because an AI plays an illegal move.
+     */
+    public Summary[] run() throws InterruptedException, ExecutionException {
+        List<Future<GameResult>> games = new ArrayList<>();
+        List<int[]> pairings = new ArrayList<>();
+        for (int i = 0; i < contestants.size(); i++) {
+            for (int j = 0; j < contestants.size(); j++) {
+                if (i != j) {
+                    Supplier<ScrabbleAI> a = contestants.get(i);
+                    Supplier<ScrabbleAI> b = contestants.get(j);
+                    for (int k = 0; k < gamesPerPairing; k++) {
+                        int game = k;
+                        games.add(executor.submit(() -> playGame(newBoard(game), a.get(), b.get())));
+                        pairings.add(new int[] {i, j});
+                    }
+                }
+            }
+        }
+        Summary[] result = new Summary[contestants.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new Summary(names.get(i));
+        }
+        for (int g = 0; g < games.size(); g++) {
+            GameResult game = games.get(g).get();
+            int[] players = pairings.get(g);
+            result[players[0]].record(game.scores[0], game.scores[1], game.metrics[0]);
+            result[players[1]].record(game.scores[1], game.scores[0], game.metrics[1]);
+        }
+        return result;
+    }
+
+    /** Returns the Board for game number game of a pairing. */
+    private Board newBoard(int game) {
+        return seed == null ? new Board() : new Board(seed + game);
+    }
+
+    /** Plays a game between a (going first) and b on board, which must be new. */
+    private GameResult playGame(Board board, ScrabbleAI a, ScrabbleAI b) throws IllegalMoveException {
+        GameResult result = new GameResult();
+        ScrabbleAI[] players = {a, b};
+        GateKeeper[] gateKeepers = {new GateKeeper(board, 0), new GateKeeper(board, 1)};
+        a.setGateKeeper(gateKeepers[0]);
+        b.setGateKeeper(gateKeepers[1]);
+        // One clock per player, so a runaway AI cannot make its opponent wait
+        try (MoveClock clock0 = new MoveClock(moveBudgetMillis); MoveClock clock1 = new MoveClock(moveBudgetMillis)) {
+            MoveClock[] clocks = {clock0, clock1};
+            while (!board.gameIsOver()) {
+                int player = board.getCurrentPlayer();
+                playMove(board, clocks[player].chooseMove(players[player], gateKeepers[player],
+                        result.metrics[player]), player);
+            }
+        }
+        result.scores[0] = board.getScore(0);
+        result.scores[1] = board.getScore(1);
+        return result;
+    }
+
+    /**
+     * Plays move on board.
+     * @param playerNumber Player's place in the game turn order (0 or 1).
+     */
+    private static void playMove(Board board, ScrabbleMove move, int playerNumber) throws IllegalMoveException {
+        // As in ScrabbleTournament, only the two legitimate ScrabbleMove implementations may touch the Board.
+        if (!(move instanceof PlayWord || move instanceof ExchangeTiles)) {
+            throw new IllegalMoveException("Bogus ScrabbleMove implementation detected!");
+        }
+        move.play(board, playerNumber);
+    }
+
+    /** Final scores and move metrics of both players in one game. */
+    private static class GameResult {
+
+        final int[] scores = new int[2];
+
+        final MoveMetrics[] metrics = {new MoveMetrics(), new MoveMetrics()};
+
+    }
+
+    /** Results of one contestant over all of its games. */
+    public static class Summary {
+
+        private final String name;
+
+        private int games;
+
+        /** Wins, with 0.5 for each tie. */
+        private double wins;
+
+        private long totalScore;
+
+        private long totalSquaredScore;
+
+        private long totalSpread;
+
+        /** Metrics of this contestant's moves. */
+        private final MoveMetrics metrics = new MoveMetrics();
+
+        Summary(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Records a game in which this contestant scored score and the opponent scored opponentScore, with the given
+         * metrics for its moves.
+         */
+        void record(int score, int opponentScore, MoveMetrics metrics) {
+            this.metrics.add(metrics);
+            games++;
+            if (score > opponentScore) {
+                wins++;
+            } else if (score == opponentScore) {
+                wins += 0.5;
+            }
+            totalScore += score;
+            totalSquaredScore += (long) score * score;
+            totalSpread += score - opponentScore;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getGames() {
+            return games;
+        }
+
+        /** Returns the fraction of games won, counting ties as half. */
+        public double getWinRate() {
+            return games == 0 ? 0 : wins / games;
+        }
+
+        public double getMeanScore() {
+            return games == 0 ? 0 : (double) totalScore / games;
+        }
+
+        /** Returns the sample variance of this contestant's final scores. */
+        public double getScoreVariance() {
+            if (games < 2) {
+                return 0;
+            }
+            double mean = getMeanScore();
+            return (totalSquaredScore - games * mean * mean) / (games - 1);
+        }
+
+        /** Returns the mean of this contestant's score minus the opponent's. */
+        public double getMeanSpread() {
+            return games == 0 ? 0 : (double) totalSpread / games;
+        }
+
+        /** Returns the metrics of this contestant's moves. */
+        public MoveMetrics getMetrics() {
+            return metrics;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-16s games %6d  win rate %.3f  mean score %7.2f  variance %9.2f  mean spread %+7.2f"
+                    + "%n%-16s %s", name, games, getWinRate(), getMeanScore(), getScoreVariance(), getMeanSpread(), "",
+                    metrics);
+        }
+
+    }
+
+}